@@ -0,0 +1,78 @@
+package com.api;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ui.pojo.User;
+
+/**
+ * Account endpoints of the application backend (/Account/v1): the same users
+ * LoginTest signs in with through the UI.
+ */
+public class AccountApi {
+
+	private static final String USER = "/Account/v1/User";
+	private static final String LOGIN = "/Account/v1/Login";
+	private static final String GENERATE_TOKEN = "/Account/v1/GenerateToken";
+
+	private final ApiClient client;
+
+	public AccountApi(ApiClient client) {
+		this.client = client;
+	}
+
+	/** Creates the user and returns its userID. */
+	public CompletableFuture<String> createUser(User user) {
+		return client.postAsync(USER, credentials(user))
+				.thenApply(response -> response.requireSuccess().json().path("userID").asText());
+	}
+
+	/**
+	 * Creates the user, or signs in when it already exists (e.g. left over by an
+	 * interrupted run). Returns its userID either way.
+	 */
+	public CompletableFuture<String> createOrGetUser(User user) {
+		return client.postAsync(USER, credentials(user)).thenCompose(response -> {
+			if (response.isSuccess()) {
+				return CompletableFuture.completedFuture(response.json().path("userID").asText());
+			}
+			return login(user);
+		});
+	}
+
+	/** Signs in and returns the userID (fails for unknown users / wrong passwords). */
+	public CompletableFuture<String> login(User user) {
+		return client.postAsync(LOGIN, credentials(user)).thenApply(response -> {
+			JsonNode json = response.requireSuccess().json();
+			String userId = json.path("userId").asText(json.path("userID").asText());
+			if (userId.isEmpty()) {
+				throw new RuntimeException("❌ Login through the API failed for " + user.getUserName() + ": "
+						+ response.body());
+			}
+			return userId;
+		});
+	}
+
+	public CompletableFuture<String> generateToken(User user) {
+		return client.postAsync(GENERATE_TOKEN, credentials(user)).thenApply(response -> {
+			JsonNode json = response.requireSuccess().json();
+			if (!"Success".equalsIgnoreCase(json.path("status").asText())) {
+				throw new RuntimeException("❌ Token generation failed for " + user.getUserName() + ": "
+						+ json.path("result").asText());
+			}
+			return json.path("token").asText();
+		});
+	}
+
+	/** Deletes the user with its own token. */
+	public CompletableFuture<Void> deleteUser(String userId, User user) {
+		return generateToken(user)
+				.thenCompose(token -> client.withBearerToken(token).deleteAsync(USER + "/" + userId))
+				.thenAccept(ApiResponse::requireSuccess);
+	}
+
+	private static Map<String, String> credentials(User user) {
+		return Map.of("userName", user.getUserName(), "password", user.getPassword());
+	}
+}
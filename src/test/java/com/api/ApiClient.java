@@ -0,0 +1,148 @@
+package com.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ui.pojo.Environment;
+import com.utility.JsonConfigUtility;
+import com.utility.LoggerUtility;
+
+/**
+ * Asynchronous JSON client for backend setup / teardown, built on one shared
+ * java.net.http.HttpClient (HTTP/2 when the server supports it, so parallel
+ * calls are multiplexed over a single connection).
+ *
+ * The base URL ("apiUrl"), timeout and optional basic auth ("apiAuth") come
+ * from the environment in config.json. At most -DapiMaxConcurrency requests
+ * are in flight at once; further calls wait for a free slot.
+ */
+public class ApiClient {
+
+	private static final Logger logger = LoggerUtility.getLogger(ApiClient.class);
+
+	private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private static final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+			.connectTimeout(Duration.ofSeconds(10)).followRedirects(HttpClient.Redirect.NORMAL).executor(executor)
+			.build();
+	private static final Semaphore inFlight = new Semaphore(
+			Integer.parseInt(System.getProperty("apiMaxConcurrency", "16").trim()));
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private final String baseUrl;
+	private final Duration timeout;
+	private final Map<String, String> headers;
+
+	private ApiClient(String baseUrl, Duration timeout, Map<String, String> headers) {
+		this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+		this.timeout = timeout;
+		this.headers = Map.copyOf(headers);
+	}
+
+	/** Client for the "apiUrl" of the given environment (DEV, QA, UAT). */
+	public static ApiClient forEnvironment(String env) {
+		Environment environment = JsonConfigUtility.getEnvData(env.toUpperCase());
+		if (environment == null || environment.getApiUrl() == null || environment.getApiUrl().isBlank()) {
+			throw new RuntimeException("❌ No apiUrl configured for environment: " + env);
+		}
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put("Accept", "application/json");
+		if ("basic".equalsIgnoreCase(environment.getApiAuth())) {
+			String credentials = environment.getUsername() + ":" + environment.getPassword();
+			headers.put("Authorization",
+					"Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+		}
+		int timeoutSec = environment.getTimeout() > 0 ? environment.getTimeout() : 30;
+		return new ApiClient(environment.getApiUrl(), Duration.ofSeconds(timeoutSec), headers);
+	}
+
+	/** Same client, authenticated with the given bearer token. */
+	public ApiClient withBearerToken(String token) {
+		Map<String, String> authenticated = new LinkedHashMap<>(headers);
+		authenticated.put("Authorization", "Bearer " + token);
+		return new ApiClient(baseUrl, timeout, authenticated);
+	}
+
+	public CompletableFuture<ApiResponse> getAsync(String path) {
+		return sendAsync("GET", path, null);
+	}
+
+	public CompletableFuture<ApiResponse> postAsync(String path, Object body) {
+		return sendAsync("POST", path, body);
+	}
+
+	public CompletableFuture<ApiResponse> deleteAsync(String path) {
+		return sendAsync("DELETE", path, null);
+	}
+
+	/** Sends the request without blocking; the body (if any) is serialized to JSON. */
+	public CompletableFuture<ApiResponse> sendAsync(String method, String path, Object body) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+		headers.forEach(builder::header);
+		if (body == null) {
+			builder.method(method, HttpRequest.BodyPublishers.noBody());
+		} else {
+			builder.header("Content-Type", "application/json").method(method,
+					HttpRequest.BodyPublishers.ofString(toJson(body)));
+		}
+
+		HttpRequest request = builder.build();
+
+		// The slot is taken off the caller's thread; it is released on every path once the call settles
+		return CompletableFuture.runAsync(inFlight::acquireUninterruptibly, executor).thenCompose(ignored -> {
+			long start = System.currentTimeMillis();
+			CompletableFuture<HttpResponse<String>> sent;
+			try {
+				sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+			} catch (RuntimeException e) {
+				inFlight.release();
+				throw e;
+			}
+			return sent.whenComplete((response, error) -> inFlight.release()).thenApply(response -> {
+				ApiResponse apiResponse = new ApiResponse(method, path, response.statusCode(), response.body(),
+						System.currentTimeMillis() - start);
+				logger.debug("🔌 {} {} → {} in {} ms ({})", method, path, response.statusCode(),
+						apiResponse.durationMs(), response.version());
+				return apiResponse;
+			});
+		});
+	}
+
+	/** Waits for a whole batch; the first failure is rethrown once every call has settled. */
+	public static <T> List<T> awaitAll(List<CompletableFuture<T>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException runtime ? runtime
+					: new RuntimeException("❌ API batch failed", e.getCause());
+		}
+		List<T> results = new ArrayList<>();
+		futures.forEach(future -> results.add(future.join()));
+		return results;
+	}
+
+	private static String toJson(Object body) {
+		try {
+			return body instanceof String text ? text : mapper.writeValueAsString(body);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("❌ Could not serialize API request body", e);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Status, raw body and round-trip time of one API call. */
+public record ApiResponse(String method, String path, int status, String body, long durationMs) {
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	public boolean isSuccess() {
+		return status >= 200 && status < 300;
+	}
+
+	public JsonNode json() {
+		try {
+			return body == null || body.isBlank() ? mapper.createObjectNode() : mapper.readTree(body);
+		} catch (Exception e) {
+			throw new RuntimeException("❌ " + method + " " + path + " did not return JSON: " + body, e);
+		}
+	}
+
+	/** Throws unless the status is 2xx. */
+	public ApiResponse requireSuccess() {
+		if (!isSuccess()) {
+			throw new RuntimeException("❌ " + method + " " + path + " failed with HTTP " + status + ": " + body);
+		}
+		return this;
+	}
+}
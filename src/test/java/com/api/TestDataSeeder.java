@@ -0,0 +1,83 @@
+package com.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.logging.log4j.Logger;
+
+import com.ui.pojo.User;
+import com.utility.LoggerUtility;
+
+/**
+ * Creates test users through the backend, in one parallel batch, before any
+ * browser opens; {@link #cleanup()} deletes them again at the end of the
+ * suite (called by TestListener).
+ *
+ * Seeded names carry a per-run suffix ("sentinel_dev_k3x9q2_1", ...), so
+ * concurrent runs against the same backend (CI and a dev machine) never share
+ * or delete each other's users. Test history keys them by env and slot
+ * instead ({@link #stableName}), so each slot's history carries over.
+ */
+public class TestDataSeeder {
+
+	private static final Logger logger = LoggerUtility.getLogger(TestDataSeeder.class);
+
+	private static final String PASSWORD_PREFIX = "Sentinel@";
+	private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36).substring(2)
+			+ Long.toString(ProcessHandle.current().pid() % 1296, 36);
+
+	private record SeededUser(String env, String userId, User user) {
+	}
+
+	private static final Queue<SeededUser> seededUsers = new ConcurrentLinkedQueue<>();
+
+	private TestDataSeeder() {
+	}
+
+	/** Run-independent name of a user seeded by this run ("sentinel_dev_seeded_1"); other names unchanged. */
+	public static String stableName(String userName) {
+		return userName.replace("_" + RUN_ID + "_", "_seeded_");
+	}
+
+	/** Creates (or reuses) {@code count} users in the environment's backend. */
+	public static List<User> seedUsers(String env, int count) {
+		long start = System.currentTimeMillis();
+		AccountApi accountApi = new AccountApi(ApiClient.forEnvironment(env));
+
+		List<User> users = new ArrayList<>();
+		List<CompletableFuture<SeededUser>> batch = new ArrayList<>();
+		for (int slot = 1; slot <= count; slot++) {
+			User user = new User("sentinel_" + env.toLowerCase() + "_" + RUN_ID + "_" + slot, PASSWORD_PREFIX + slot + "Qa");
+			users.add(user);
+			batch.add(accountApi.createOrGetUser(user).thenApply(userId -> new SeededUser(env, userId, user)));
+		}
+		seededUsers.addAll(ApiClient.awaitAll(batch));
+		logger.info("🌱 Seeded " + count + " user(s) through the API in " + (System.currentTimeMillis() - start)
+				+ " ms [" + env + "]");
+		return users;
+	}
+
+	/** Deletes every user seeded during this run, in parallel. Never fails the suite. */
+	public static void cleanup() {
+		if (seededUsers.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		List<CompletableFuture<Void>> batch = new ArrayList<>();
+		SeededUser seeded;
+		while ((seeded = seededUsers.poll()) != null) {
+			SeededUser current = seeded;
+			batch.add(new AccountApi(ApiClient.forEnvironment(current.env()))
+					.deleteUser(current.userId(), current.user()).exceptionally(error -> {
+						logger.warn("⚠️ Could not delete seeded user " + current.user().getUserName() + ". Cause: "
+								+ error.getMessage());
+						return null;
+					}));
+		}
+		ApiClient.awaitAll(batch);
+		logger.info("🧹 Deleted " + batch.size() + " seeded user(s) in " + (System.currentTimeMillis() - start) + " ms");
+	}
+}
@@ -0,0 +1,47 @@
+package com.ui.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget enforced by TestListener (a breach fails an otherwise
+ * passing test, is reported under the "Performance Budget" category and is
+ * never retried).
+ *
+ * On a TEST method: {@code maxMs} limits the test body and {@code steps}
+ * sets / overrides budgets of named steps for that test.
+ *
+ * {@code maxCommands} caps the WebDriver commands of the test (overrides
+ * -DcommandBudget, see CommandAuditUtility).
+ *
+ * On a PAGE-OBJECT method: {@code maxMs} is the budget of the step, named
+ * after the method. The method body must be wrapped in
+ * {@code PerformanceBudgetUtility.step(Page.class, "methodName", () -> ...)}.
+ *
+ * <pre>
+ * &#64;PerformanceBudget(maxMs = 20000, steps = &#64;PerformanceBudget.Step(name = "doLoginWith", maxMs = 5000))
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerformanceBudget {
+
+	/** Maximum duration in ms; -1 = no limit. */
+	long maxMs() default -1;
+
+	/** Maximum WebDriver commands of a test method; -1 = -DcommandBudget. */
+	long maxCommands() default -1;
+
+	/** Step budgets for a test method (name = page-object method name). */
+	Step[] steps() default {};
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	@interface Step {
+		String name();
+
+		long maxMs();
+	}
+}
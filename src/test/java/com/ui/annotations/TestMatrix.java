@@ -0,0 +1,40 @@
+package com.ui.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Dimensions of a matrix test, expanded by TestMatrixUtility into rows of
+ * (Browser, Env, data row). TestBase launches each row with its own browser
+ * and environment.
+ *
+ * {@code strength} = 2 generates a pairwise covering set (every pair of
+ * values of any two dimensions runs at least once), 3 a 3-wise set, 0 the
+ * full cartesian product; -DmatrixStrength overrides it for a run.
+ * {@code mustInclude} rows are always run: "browser,env,data" with a 1-based
+ * data row number or "*" for any value.
+ *
+ * <pre>
+ * &#64;TestMatrix(browsers = { "CHROME", "FIREFOX" }, envs = { "DEV", "QA", "UAT" }, mustInclude = "FIREFOX,UAT,*")
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestMatrix {
+
+	/** Browser names (com.constants.Browser); empty = the run's -Dbrowser. */
+	String[] browsers() default {};
+
+	/**
+	 * Environment names (com.constants.Env); empty = the run's -DENV. Envs
+	 * without a url in config.json are skipped.
+	 */
+	String[] envs() default {};
+
+	/** Interaction strength covered: 2 = pairwise, 3 = 3-wise, 0 = full product. */
+	int strength() default 2;
+
+	String[] mustInclude() default {};
+}
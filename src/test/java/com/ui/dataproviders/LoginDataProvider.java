@@ -1,11 +1,19 @@
 package com.ui.dataproviders;
 
+import com.api.TestDataSeeder;
+import com.ui.listeners.MultiEnvSuiteListener;
 import com.ui.pojo.User;
 import com.utility.CSVReaderUtility;
 import com.utility.ExcelReaderUtility;
 import com.utility.JSONReaderUtility;
+import com.utility.SuiteBootstrap;
+import com.utility.TestHistoryUtility;
+import com.utility.TestMatrixUtility;
 
+import java.lang.reflect.Method;
 import java.util.Iterator;
+import java.util.List;
+import org.testng.ITestContext;
 import org.testng.annotations.DataProvider;
 
 
@@ -13,24 +21,44 @@ import org.testng.annotations.DataProvider;
  * can return data in object[]
  * can return data in obj[][]
  * can return data in Iterator
+ * Rows are re-ordered by TestHistoryUtility (longest / likely-to-fail first)
  * */
 
 public class LoginDataProvider {
 
     @DataProvider(name = "LoginTestJsonDataProvider")
-    public Iterator<User> loginTestJsonDataProvider() {
-        return JSONReaderUtility.readJSONFile("loginData.json");
+    public Iterator<User> loginTestJsonDataProvider(Method method) {
+        return TestHistoryUtility.orderByHistory(qualifiedName(method), SuiteBootstrap.testData("loginData.json", JSONReaderUtility::readJSONFile));
    }
     
     
     @DataProvider(name = "LoginTestCSVDataProvider")
-    public Iterator<User> loginCSVDataProvider() {
-    	return CSVReaderUtility.readCSVFile("loginData.csv");
+    public Iterator<User> loginCSVDataProvider(Method method) {
+    	return TestHistoryUtility.orderByHistory(qualifiedName(method), SuiteBootstrap.testData("loginData.csv", CSVReaderUtility::readCSVFile));
     }
     
     @DataProvider(name = "LoginTestExcelDataProvider")
-    public Iterator<User> loginExcelDataProvider() {
-    	return ExcelReaderUtility.readExcleFile("loginData.xlsx");
+    public Iterator<User> loginExcelDataProvider(Method method) {
+    	return TestHistoryUtility.orderByHistory(qualifiedName(method), SuiteBootstrap.testData("loginData.xlsx", ExcelReaderUtility::readExcleFile));
+    }
+    
+    // Users are created through the backend (one parallel batch) before any browser opens
+    @DataProvider(name = "LoginTestApiSeededDataProvider")
+    public Iterator<User> loginApiSeededDataProvider(Method method, ITestContext context) {
+    	int count = Integer.parseInt(System.getProperty("apiSeedUsers", "2").trim());
+    	// Seeded in the <test>'s own environment (-Denvs runs one <test> per environment)
+    	List<User> users = TestDataSeeder.seedUsers(MultiEnvSuiteListener.envOf(context.getCurrentXmlTest()), count);
+    	return TestHistoryUtility.orderByHistory(qualifiedName(method), users.iterator());
+    }
+    
+    // Browser x environment x JSON user, reduced to a covering set by the test's @TestMatrix
+    @DataProvider(name = "LoginTestMatrixDataProvider")
+    public Iterator<Object[]> loginMatrixDataProvider(Method method) {
+    	return TestMatrixUtility.expand(method, SuiteBootstrap.testData("loginData.json", JSONReaderUtility::readJSONFile));
+    }
+    
+    private static String qualifiedName(Method method) {
+    	return method.getDeclaringClass().getName() + "." + method.getName();
     }
     
 }
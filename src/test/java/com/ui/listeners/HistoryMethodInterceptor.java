@@ -0,0 +1,59 @@
+package com.ui.listeners;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import com.utility.LoggerUtility;
+import com.utility.TestHistoryUtility;
+
+/**
+ * Orders test methods using the history written by TestListener.
+ *
+ * Default: Longest-Processing-Time-first, so the slowest methods start while
+ * every worker thread is still free and short ones fill the gaps at the end.
+ * With -DfailFast=true, methods that failed recently run first.
+ */
+public class HistoryMethodInterceptor implements IMethodInterceptor {
+
+	Logger logger = LoggerUtility.getLogger(this.getClass());
+
+	@Override
+	public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+		// Methods never seen before are treated as the most expensive ones (run first)
+		Comparator<IMethodInstance> byDuration = Comparator.comparingDouble(m -> -duration(m));
+		Comparator<IMethodInstance> order = TestHistoryUtility.isFailFast()
+				? Comparator.<IMethodInstance>comparingDouble(m -> -failureRate(m)).thenComparing(byDuration)
+				: byDuration;
+
+		List<IMethodInstance> ordered = new ArrayList<>(methods);
+		ordered.sort(order);
+
+		logger.info("📊 Execution order (" + (TestHistoryUtility.isFailFast() ? "fail fast" : "longest first") + "):");
+		for (IMethodInstance method : ordered) {
+			double estimate = TestHistoryUtility.estimatedMethodDuration(qualifiedName(method));
+			logger.info("   → " + method.getMethod().getMethodName() + " (expected: "
+					+ (estimate < 0 ? "unknown" : Math.round(estimate) + " ms") + ", failure rate: "
+					+ Math.round(failureRate(method) * 100) + "%)");
+		}
+		return ordered;
+	}
+
+	private double duration(IMethodInstance method) {
+		double estimate = TestHistoryUtility.estimatedMethodDuration(qualifiedName(method));
+		return estimate < 0 ? Double.MAX_VALUE : estimate;
+	}
+
+	private double failureRate(IMethodInstance method) {
+		return TestHistoryUtility.methodFailureRate(qualifiedName(method));
+	}
+
+	private String qualifiedName(IMethodInstance method) {
+		return method.getMethod().getQualifiedName();
+	}
+}
@@ -0,0 +1,116 @@
+package com.ui.listeners;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.constants.Browser;
+import com.constants.Env;
+import com.utility.JsonConfigUtility;
+import com.utility.LoggerUtility;
+import com.utility.SuiteBootstrap;
+
+/**
+ * Fans the suite out across several environments in one run (-Denvs=DEV,QA,UAT).
+ *
+ * Every &lt;test&gt; is cloned once per environment ("Ui automation [QA]") with
+ * its own ENV parameter; the clones run in parallel (parallel="tests"), and
+ * each one runs its methods on its own pool of "maxSessions" threads from
+ * config.json (default: the suite's thread-count), so every environment gets
+ * its own session capacity. Retries and timeouts already follow the test's
+ * ENV; reports tag each result with its environment.
+ *
+ * Registered in testng.xml (alter listeners run before test classes are read).
+ */
+public class MultiEnvSuiteListener implements IAlterSuiteListener {
+
+	private static final Logger logger = LoggerUtility.getLogger(MultiEnvSuiteListener.class);
+
+	private static final List<String> ENVS = Arrays.stream(System.getProperty("envs", "").split(","))
+			.map(String::trim).filter(env -> !env.isEmpty()).map(String::toUpperCase).distinct().toList();
+
+	@Override
+	public void alter(List<XmlSuite> suites) {
+		if (ENVS.isEmpty()) {
+			suites.forEach(MultiEnvSuiteListener::bootstrap); // earliest hook: start-up work begins now
+			return;
+		}
+		for (XmlSuite suite : suites) {
+			List<XmlTest> clones = new ArrayList<>();
+			for (XmlTest test : new ArrayList<>(suite.getTests())) {
+				for (String env : ENVS) {
+					clones.add(cloneFor(test, env, suite));
+				}
+			}
+			suite.setTests(clones);
+			suite.setParallel(XmlSuite.ParallelMode.TESTS);
+			suite.setThreadCount(clones.size()); // all environments at once
+			logger.info("🌐 Suite '" + suite.getName() + "' fanned out across " + ENVS + ": " + clones.size()
+					+ " test(s) in parallel");
+			bootstrap(suite);
+		}
+	}
+
+	private XmlTest cloneFor(XmlTest test, String env, XmlSuite suite) {
+		XmlTest clone = (XmlTest) test.clone(); // registers itself in the suite: replaced by setTests
+		clone.setName(test.getName() + " [" + env + "]");
+		Map<String, String> parameters = new LinkedHashMap<>(test.getLocalParameters());
+		parameters.put("ENV", env);
+		clone.setParameters(parameters);
+		clone.setParallel(
+				test.getParallel() == XmlSuite.ParallelMode.NONE ? XmlSuite.ParallelMode.METHODS : test.getParallel());
+		int sessions = JsonConfigUtility.getEnvData(env).getMaxSessions();
+		clone.setThreadCount(sessions > 0 ? sessions : suite.getThreadCount());
+		logger.info("   → " + clone.getName() + ": " + clone.getThreadCount() + " session(s)");
+		return clone;
+	}
+
+	/** Starts SuiteBootstrap for the suite's environments and browser; false when it is disabled. */
+	public static boolean bootstrap(XmlSuite suite) {
+		Set<String> envs = new LinkedHashSet<>();
+		suite.getTests().forEach(test -> envs.add(envOf(test)));
+		XmlTest first = suite.getTests().isEmpty() ? null : suite.getTests().get(0);
+		String browser = first == null ? null : first.getParameter("browser");
+		if (browser == null || browser.isBlank() || browser.startsWith("${")) {
+			browser = System.getProperty("browser", "chrome");
+		}
+		String lambdaTest = first == null ? null : first.getParameter("isLambdaTest");
+		if (lambdaTest == null || lambdaTest.startsWith("${")) {
+			lambdaTest = System.getProperty("isLambdaTest", "false");
+		}
+		return SuiteBootstrap.start(envs, Browser.valueOf(browser.trim().toUpperCase()),
+				Boolean.parseBoolean(lambdaTest.trim()));
+	}
+
+	public static boolean isActive() {
+		return !ENVS.isEmpty();
+	}
+
+	/** Environment of a result: the matrix row's Env, else the &lt;test&gt;'s ENV parameter, else -DENV. */
+	public static String envOf(ITestResult result) {
+		for (Object parameter : result.getParameters()) {
+			if (parameter instanceof Env env) {
+				return env.name();
+			}
+		}
+		return envOf(result.getTestContext().getCurrentXmlTest());
+	}
+
+	public static String envOf(XmlTest test) {
+		String env = test.getParameter("ENV");
+		if (env == null || env.isBlank() || env.startsWith("${")) {
+			env = System.getProperty("ENV", "DEV");
+		}
+		return env.trim().toUpperCase();
+	}
+}
@@ -1,39 +1,36 @@
 package com.ui.listeners;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.logging.log4j.Logger;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
+import com.utility.EnvironmentCircuitBreaker;
 import com.utility.JsonConfigUtility;
 import com.utility.LoggerUtility;
+import com.utility.PerformanceBudgetExceededException;
 
 public class MyRetryAnalyzer implements IRetryAnalyzer {
 
-    // 1. We initialize this variable dynamically inside the Constructor or a static block
-    private static int maxRetryCount;
-
-    static {
-        // PRIORITY 1: Check if "retryCount" is passed directly from Maven (-DretryCount=3)
-        String directRetry = System.getProperty("retryCount");
-        
-        if (directRetry != null) {
-            maxRetryCount = Integer.parseInt(directRetry);
-            
-        } else {
-            // PRIORITY 2: Check "ENV" variable and read from Config.json
-            String env = System.getProperty("ENV");
-            
-            // Default to "DEV" if running from IDE without settings
-            if (env == null || env.isEmpty()) {
-                env = "DEV";
-            }
-            
-            // Fetch from JSON (e.g., QA -> 2 retries)
+    // PRIORITY 1: "retryCount" passed directly from Maven (-DretryCount=3) applies to every environment
+    private static final String DIRECT_RETRY = System.getProperty("retryCount", "").trim();
+
+    // PRIORITY 2: per environment from Config.json (e.g., QA -> 2 retries), resolved once per ENV
+    private static final Map<String, Integer> retryCountByEnv = new ConcurrentHashMap<>();
+
+    private static int maxRetryCount(ITestResult result) {
+        if (!DIRECT_RETRY.isEmpty()) {
+            return Integer.parseInt(DIRECT_RETRY);
+        }
+        // The test's own ENV: one run can cover several environments (-Denvs)
+        return retryCountByEnv.computeIfAbsent(MultiEnvSuiteListener.envOf(result), env -> {
             try {
-                maxRetryCount = JsonConfigUtility.getEnvData(env.toUpperCase()).getMAX_NUMBER_OF_ATTEMPTS();
+                return JsonConfigUtility.getEnvData(env).getMAX_NUMBER_OF_ATTEMPTS();
             } catch (Exception e) {
-                maxRetryCount = 1; // Safety Fallback if JSON fails
+                return 1; // Safety Fallback if JSON fails
             }
-        }
+        });
     }
 
     private int currentAttempt = 1;
@@ -41,6 +38,17 @@ public class MyRetryAnalyzer implements IRetryAnalyzer {
 
     @Override
     public boolean retry(ITestResult result) {
+        // Budget breaches are deterministic enough: a retry would only hide the slowdown
+        if (result.getThrowable() instanceof PerformanceBudgetExceededException) {
+            logger.warn("⏱️ Not retrying " + result.getMethod().getMethodName() + ": performance budget exceeded.");
+            return false;
+        }
+        // Environment is down: a retry would only wait for the same timeout again
+        if (EnvironmentCircuitBreaker.isOpen()) {
+            logger.warn("🔌 Not retrying " + result.getMethod().getMethodName() + ": environment circuit is open.");
+            return false;
+        }
+        int maxRetryCount = maxRetryCount(result);
         if (currentAttempt <= maxRetryCount) {
             logger.info("***********************************************************************************");
             logger.warn("🔄 RETRYING TEST: " + result.getMethod().getMethodName());
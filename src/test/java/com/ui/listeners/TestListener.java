@@ -1,30 +1,69 @@
 package com.ui.listeners;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.apache.logging.log4j.Logger;
 
+import com.api.TestDataSeeder;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.ui.test.TestBase;
 import com.utility.BrowserUtility;
+import com.utility.CommandAuditUtility;
+import com.utility.EnvironmentCircuitBreaker;
 import com.utility.ExtentReporterUtility;
+import com.utility.FailureArtifactUtility;
+import com.utility.HttpArchiveUtility;
 import com.utility.LoggerUtility;
+import com.utility.MetricsUtility;
+import com.utility.PagePerformanceCollector;
+import com.utility.PerformanceBaselineUtility;
+import com.utility.PerformanceBudgetExceededException;
+import com.utility.PerformanceBudgetUtility;
+import com.utility.ResourceSampler;
+import com.utility.SessionWatchdog;
+import com.utility.ShardedReportUtility;
+import com.utility.SuiteBootstrap;
+import com.utility.TestHistoryUtility;
+import com.utility.TraceUtility;
 
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener {
 
 	Logger logger = LoggerUtility.getLogger(this.getClass());
 
+	// Suite-wide setup / teardown run once, even when the suite has several <test>s (e.g. -Denvs)
+	private static final Map<String, AtomicInteger> finishedTests = new ConcurrentHashMap<>();
+
 	@Override
 	public void onStart(ITestContext context) {
+		if (finishedTests.putIfAbsent(context.getSuite().getName(), new AtomicInteger()) != null) {
+			return;
+		}
 		logger.info("╔════════════════════════════════════════════════════════════════════════════════╗");
 		logger.info("║         🌟           TEST SUITE EXECUTION STARTED          🌟                  ║");
 		logger.info("╚════════════════════════════════════════════════════════════════════════════════╝");
-		ExtentReporterUtility.setupSparkReporter("report.html");
+		// Config, report, test data, preflight, driver service... start concurrently (SuiteBootstrap)
+		if (!MultiEnvSuiteListener.bootstrap(context.getSuite().getXmlSuite())) {
+			ExtentReporterUtility.setupSparkReporter("report.html");
+			// Parallel health check of the target environment(s) before any browser is launched
+			Set<String> envs = new LinkedHashSet<>();
+			context.getSuite().getXmlSuite().getTests().forEach(test -> envs.add(MultiEnvSuiteListener.envOf(test)));
+			EnvironmentCircuitBreaker.preflight(envs);
+			SessionWatchdog.reapOrphans();
+		}
 	}
 
 	@Override
@@ -35,12 +74,44 @@ public class TestListener implements ITestListener {
 		logger.info("   Groups      : " + Arrays.toString(result.getMethod().getGroups()));
 		logger.info("----------------------------------------------------------------------------------");
 
-		ExtentReporterUtility.createExtentTest(result.getMethod().getMethodName());
+		SuiteBootstrap.logTimeToFirstTest(result.getMethod().getMethodName());
+		SuiteBootstrap.await("report");
+		String env = MultiEnvSuiteListener.envOf(result);
+		ExtentReporterUtility.createExtentTest(result.getMethod().getMethodName()
+				+ (MultiEnvSuiteListener.isActive() ? " [" + env + "]" : ""));
 		// 2. Automatically fetch groups from @Test(groups = {"Regression"})
 		String[] groups = result.getMethod().getGroups();
 		if (groups.length > 0) {
 			ExtentReporterUtility.assignCategory(groups);
 		}
+		ExtentReporterUtility.assignCategory("ENV: " + env); // report partitioned by environment
+	}
+
+	// A passing test that blew its @PerformanceBudget or command budget becomes a (non-retried) failure
+	@Override
+	public void afterInvocation(IInvokedMethod method, ITestResult result) {
+		if (method.isConfigurationMethod() && method.getTestMethod().isBeforeMethodConfiguration()
+				&& result.getStatus() == ITestResult.FAILURE) {
+			EnvironmentCircuitBreaker.recordOutcome(result.getThrowable()); // browser launch / first navigation
+		}
+		if (!method.isTestMethod()) {
+			return;
+		}
+		EnvironmentCircuitBreaker.recordOutcome(result.getStatus() == ITestResult.SUCCESS ? null : result.getThrowable());
+		Method testMethod = result.getMethod().getConstructorOrMethod().getMethod();
+		// Audited for every outcome; only a passing test can fail on its command budget
+		Optional<PerformanceBudgetExceededException> commandBreach = CommandAuditUtility.evaluate(testMethod);
+		ResourceSampler.evaluate(result.getMethod().getMethodName());
+		if (result.getStatus() != ITestResult.SUCCESS) {
+			return;
+		}
+		PerformanceBaselineUtility.addSample("test", result.getTestClass().getRealClass().getSimpleName() + "."
+				+ result.getMethod().getMethodName(), result.getEndMillis() - result.getStartMillis());
+		PerformanceBudgetUtility.evaluate(testMethod, result.getEndMillis() - result.getStartMillis())
+				.or(() -> commandBreach).ifPresent(breach -> {
+					result.setStatus(ITestResult.FAILURE);
+					result.setThrowable(breach);
+				});
 	}
 
 	@Override
@@ -49,6 +120,7 @@ public class TestListener implements ITestListener {
 
 		long duration = result.getEndMillis() - result.getStartMillis();
 		logger.info("   ⏱️ Time Taken: " + duration + " ms");
+		recordHistory(result, duration, false);
 		// 3. Extent Report: Use a Green Label for better visibility
 		ExtentReporterUtility.getTest().pass(MarkupHelper.createLabel("Test Passed Successfully", ExtentColor.GREEN));
 
@@ -61,6 +133,11 @@ public class TestListener implements ITestListener {
 			String paramString = java.util.Arrays.deepToString(params);
 			ExtentReporterUtility.log(Status.INFO, "With Data: " + paramString);
 		}
+		finishPagePerformance(result);
+		HttpArchiveUtility.endRecording(true); // -DhttpArchive=record keeps passing tests' traffic only
+		MetricsUtility.publish(testKey(result));
+		traceTestBody(result, "PASS");
+		recordSharded(result, "PASS", null);
 	}
 
 	@Override
@@ -68,12 +145,21 @@ public class TestListener implements ITestListener {
 		logger.error("❌ TEST 🅵 🅰 🅸 🅻 🅴 🅳 : " + result.getMethod().getMethodName() + "❌");
 		logger.error("   Reason      : " + result.getThrowable().getMessage());
 
-		ExtentReporterUtility.getTest().fail(MarkupHelper.createLabel("Test Failed!!", ExtentColor.RED));
-		ExtentReporterUtility.getTest().log(Status.FAIL, result.getThrowable().getMessage());
+		if (result.getThrowable() instanceof PerformanceBudgetExceededException breach) {
+			// Separate category: functionally correct, but too slow
+			ExtentReporterUtility.assignCategory("Performance Budget");
+			ExtentReporterUtility.getTest()
+					.fail(MarkupHelper.createLabel("Performance Budget Exceeded", ExtentColor.ORANGE));
+			ExtentReporterUtility.getTest().log(Status.FAIL, breach.getMessage());
+		} else {
+			ExtentReporterUtility.getTest().fail(MarkupHelper.createLabel("Test Failed!!", ExtentColor.RED));
+			ExtentReporterUtility.getTest().log(Status.FAIL, result.getThrowable().getMessage());
+		}
 
 		// test execution Duration
 		long duration = result.getEndMillis() - result.getStartMillis();
 		logger.info("   ⏱️ Time Taken: " + duration + " ms");
+		recordHistory(result, duration, true);
 		ExtentReporterUtility.log(Status.INFO, "Execution Time: <b>" + duration + " ms</b>");
 
 		// --- NEW: PARAMETER LOGGING LOGIC ---
@@ -85,30 +171,13 @@ public class TestListener implements ITestListener {
 		}
 
 		// ------------------------------------
+		finishPagePerformance(result);
+		HttpArchiveUtility.endRecording(false);
+		MetricsUtility.publish(testKey(result));
+		traceTestBody(result, "FAIL");
 
-		// --- SCREENSHOT LOGIC ---
-
-		// Robust Screenshot Logic (Java 21 Pattern Matching)
-		try {
-			// Checks if instance is valid AND if the browser utility exists in one line
-			if (result.getInstance() instanceof TestBase testBase && testBase.getInstance() != null) {
-
-				logger.info("📸 Attempting to capture screenshot...");
-				String screenshotPath = testBase.getInstance().takeScreenShot(result.getName());
-
-				if (screenshotPath != null) {
-					ExtentReporterUtility.getTest().addScreenCaptureFromPath(screenshotPath);
-					logger.info("   ✅ Screenshot attached: " + screenshotPath);
-				} else {
-					logger.warn("   ⚠️ Screenshot skipped: Path was null (Driver might be closed).");
-				}
-			} else {
-				logger.error("   ❌ Cannot take screenshot: BrowserUtility is NULL or Class is not TestBase.");
-			}
-		} catch (Exception e) {
-			logger.error("   ❌ Failed to attach screenshot: " + e.getMessage());
-		}
-
+		// Final attempt: this failure reaches the report
+		recordSharded(result, "FAIL", attachArtifacts(result, true));
 	}
 
 	@Override
@@ -122,33 +191,95 @@ public class TestListener implements ITestListener {
 		long duration = result.getEndMillis() - result.getStartMillis();
 		logger.info("   ⏱️ Time Taken: " + duration + " ms");
 		ExtentReporterUtility.log(Status.INFO, "Execution Time: <b>" + duration + " ms</b>");
-		// --- SCREENSHOT LOGIC ---
-		try {
-			// Checks if instance is valid AND if the browser utility exists in one line
-			if (result.getInstance() instanceof TestBase testBase && testBase.getInstance() != null) {
-
-				logger.info("📸 Attempting to capture screenshot...");
-				String screenshotPath = testBase.getInstance().takeScreenShot(result.getName());
-
-				if (screenshotPath != null) {
-					ExtentReporterUtility.getTest().addScreenCaptureFromPath(screenshotPath);
-					logger.info("   ✅ Screenshot attached: " + screenshotPath);
-				} else {
-					logger.warn("   ⚠️ Screenshot skipped: Path was null (Driver might be closed).");
-				}
-			} else {
-				logger.error("   ❌ Cannot take screenshot: BrowserUtility is NULL or Class is not TestBase.");
-			}
-		} catch (Exception e) {
-			logger.error("   ❌ Failed to attach screenshot: " + e.getMessage());
+		// A retried attempt is a failure as far as scheduling history is concerned
+		if (result.wasRetried()) {
+			recordHistory(result, duration, true);
 		}
+		finishPagePerformance(result);
+		HttpArchiveUtility.endRecording(false);
+		MetricsUtility.publish(testKey(result));
+		traceTestBody(result, "SKIP");
+		// Retried attempt: cheap artifacts only (see -DartifactPolicy)
+		recordSharded(result, "SKIP", result.wasRetried() ? attachArtifacts(result, false) : null);
 	}
 
 	@Override
 	public void onFinish(ITestContext context) {
+		int total = context.getSuite().getXmlSuite().getTests().size();
+		if (finishedTests.get(context.getSuite().getName()).incrementAndGet() < total) {
+			return; // other <test>s of the suite are still running
+		}
 		logger.info("╔════════════════════════════════════════════════════════════════════════════════╗");
 		logger.info("║   🟢🌟                 TEST SUITE EXECUTION FINISHED           🌟🟢            ║");
 		logger.info("╚════════════════════════════════════════════════════════════════════════════════╝");
+		PerformanceBaselineUtility.compareAndSave(); // adds its own report node, so before the flush
+		FailureArtifactUtility.awaitPending(); // DOM snapshots still being written
 		ExtentReporterUtility.flushReport();
+		ShardedReportUtility.finish();
+		HttpArchiveUtility.finish();
+		EnvironmentCircuitBreaker.logSummary();
+		ResourceSampler.logSummary();
+		SessionWatchdog.logSummary();
+		TestHistoryUtility.save();
+		MetricsUtility.export();
+		TraceUtility.export();
+		TestDataSeeder.cleanup(); // users created through the API by data providers
+	}
+
+	/** Web Vitals of the last page: read while the browser is still open (@AfterMethod closes it). */
+	private void finishPagePerformance(ITestResult result) {
+		PagePerformanceCollector.finish(result.getInstance() instanceof TestBase testBase
+				&& testBase.getInstance() != null ? testBase.getInstance().getDriver() : null);
+	}
+
+	// Screenshot / DOM snapshot as decided by FailureArtifactUtility's policy, linked into the report
+	private String attachArtifacts(ITestResult result, boolean finalAttempt) {
+		try {
+			// Checks if instance is valid AND if the browser utility exists in one line
+			if (!(result.getInstance() instanceof TestBase testBase) || testBase.getInstance() == null) {
+				logger.error("   ❌ Cannot capture artifacts: BrowserUtility is NULL or Class is not TestBase.");
+				return null;
+			}
+			FailureArtifactUtility.Artifacts artifacts = FailureArtifactUtility.capture(result.getName(),
+					result.getThrowable(), finalAttempt, testBase.getInstance());
+			if (artifacts.screenshot() != null) {
+				ExtentReporterUtility.getTest().addScreenCaptureFromPath(artifacts.screenshot());
+				logger.info("   ✅ Screenshot attached: " + artifacts.screenshot());
+			}
+			if (artifacts.domSnapshot() != null) {
+				ExtentReporterUtility.log(Status.INFO, "DOM snapshot: " + artifacts.domSnapshot());
+			}
+			return artifacts.screenshot() != null ? artifacts.screenshot() : artifacts.domSnapshot();
+		} catch (Exception e) {
+			logger.error("   ❌ Failed to attach artifacts: " + e.getMessage());
+			return null;
+		}
+	}
+
+	// One row of the sharded report (reports/sharded/index.html)
+	private void recordSharded(ITestResult result, String status, String artifact) {
+		// The environment is one more group, so the viewer can filter on it
+		String[] groups = Arrays.copyOf(result.getMethod().getGroups(), result.getMethod().getGroups().length + 1);
+		groups[groups.length - 1] = "env:" + MultiEnvSuiteListener.envOf(result);
+		ShardedReportUtility.record(result.getTestClass().getRealClass().getSimpleName(),
+				result.getMethod().getMethodName(), Arrays.deepToString(result.getParameters()), groups, status,
+				result.getEndMillis() - result.getStartMillis(), result.getThrowable(), artifact);
+	}
+
+	// "<method>|<data row>" so the exported metrics can tell data rows apart
+	private String testKey(ITestResult result) {
+		return TestHistoryUtility.buildKey(result.getMethod().getMethodName(), result.getParameters());
+	}
+
+	// Test method body on the trace timeline, nested in the test span opened by TestBase.setup
+	private void traceTestBody(ITestResult result, String status) {
+		TraceUtility.complete(result.getMethod().getMethodName(), "test-body", result.getStartMillis(),
+				result.getEndMillis(), Map.of("status", status, "data", Arrays.deepToString(result.getParameters())));
+	}
+
+	// Feeds history/test-history.json, read back by HistoryMethodInterceptor
+	private void recordHistory(ITestResult result, long duration, boolean failed) {
+		String key = TestHistoryUtility.buildKey(result.getMethod().getQualifiedName(), result.getParameters());
+		TestHistoryUtility.record(key, duration, failed);
 	}
 }
@@ -0,0 +1,13 @@
+package com.ui.load;
+
+/**
+ * One user journey, executed repeatedly by every virtual user. Wrap each
+ * page-object action in {@link VirtualUser#step} so its latency is measured;
+ * any exception fails the iteration.
+ */
+public interface LoadFlow {
+
+	String name();
+
+	void iterate(VirtualUser user) throws Exception;
+}
@@ -0,0 +1,129 @@
+package com.ui.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How many virtual users run, for how long, and how they pause between
+ * iterations. Built from system properties:
+ *
+ * <pre>
+ * -DloadUsers=5 -DloadRampUpSec=30 -DloadDurationSec=120   linear ramp, then hold
+ * -DloadStages=30:5,60:5,20:0                             k6-style stages (seconds:target users)
+ * -DloadIterations=10                                     per-user iteration cap (0 = unlimited)
+ * -DloadThinkTimeMs=1000-3000                             random pause between iterations
+ * -DloadWindowSec=10                                      width of the time-series buckets
+ * -DloadMaxErrorRate=0.05                                 failed iterations tolerated by LoadTest
+ * </pre>
+ *
+ * With -DloadDurationSec=0 the last stage holds until every user has done
+ * its -DloadIterations.
+ */
+public class LoadProfile {
+
+	/** Ramps linearly from the previous stage's target to {@code targetUsers}. */
+	public record Stage(long durationMs, int targetUsers) {
+	}
+
+	private final List<Stage> stages;
+	private final int iterations;
+	private final long thinkTimeMinMs;
+	private final long thinkTimeMaxMs;
+	private final long windowMs;
+	private final double maxErrorRate;
+
+	private LoadProfile(List<Stage> stages, int iterations, long thinkTimeMinMs, long thinkTimeMaxMs, long windowMs,
+			double maxErrorRate) {
+		this.stages = List.copyOf(stages);
+		this.iterations = iterations;
+		this.thinkTimeMinMs = thinkTimeMinMs;
+		this.thinkTimeMaxMs = thinkTimeMaxMs;
+		this.windowMs = windowMs;
+		this.maxErrorRate = maxErrorRate;
+	}
+
+	public static LoadProfile fromSystemProperties() {
+		int iterations = Integer.parseInt(System.getProperty("loadIterations", "0").trim());
+		List<Stage> stages = new ArrayList<>();
+		String stageSpec = System.getProperty("loadStages", "").trim();
+		if (!stageSpec.isEmpty()) {
+			for (String stage : stageSpec.split(",")) {
+				String[] parts = stage.trim().split(":");
+				if (parts.length != 2) {
+					throw new RuntimeException("❌ Invalid load stage '" + stage + "'. Expected <seconds>:<users>");
+				}
+				stages.add(new Stage(Long.parseLong(parts[0].trim()) * 1000, Integer.parseInt(parts[1].trim())));
+			}
+		} else {
+			int users = Integer.parseInt(System.getProperty("loadUsers", "2").trim());
+			long rampUpMs = Long.parseLong(System.getProperty("loadRampUpSec", "10").trim()) * 1000;
+			long durationMs = Long.parseLong(System.getProperty("loadDurationSec", "60").trim()) * 1000;
+			if (durationMs <= 0 && iterations <= 0) {
+				throw new RuntimeException("❌ Load run needs a limit: set -DloadDurationSec or -DloadIterations");
+			}
+			stages.add(new Stage(rampUpMs, users));
+			stages.add(new Stage(durationMs <= 0 ? Long.MAX_VALUE / 4 : durationMs, users));
+		}
+
+		String[] thinkTime = System.getProperty("loadThinkTimeMs", "1000-3000").trim().split("-");
+		long thinkMin = Long.parseLong(thinkTime[0].trim());
+		long thinkMax = thinkTime.length > 1 ? Long.parseLong(thinkTime[1].trim()) : thinkMin;
+		long windowMs = Long.parseLong(System.getProperty("loadWindowSec", "10").trim()) * 1000;
+		double maxErrorRate = Double.parseDouble(System.getProperty("loadMaxErrorRate", "0.05").trim());
+		return new LoadProfile(stages, iterations, thinkMin, Math.max(thinkMin, thinkMax), Math.max(1000, windowMs),
+				maxErrorRate);
+	}
+
+	/** Users that should be active {@code elapsedMs} after the start (linear within a stage). */
+	public int targetUsers(long elapsedMs) {
+		int previousTarget = 0;
+		long stageStart = 0;
+		for (Stage stage : stages) {
+			if (elapsedMs < stageStart + stage.durationMs()) {
+				double progress = stage.durationMs() == 0 ? 1 : (double) (elapsedMs - stageStart) / stage.durationMs();
+				return (int) Math.ceil(previousTarget + (stage.targetUsers() - previousTarget) * progress);
+			}
+			previousTarget = stage.targetUsers();
+			stageStart += stage.durationMs();
+		}
+		return 0;
+	}
+
+	public long totalDurationMs() {
+		return stages.stream().mapToLong(Stage::durationMs).sum();
+	}
+
+	public int maxUsers() {
+		return stages.stream().mapToInt(Stage::targetUsers).max().orElse(0);
+	}
+
+	public List<Stage> getStages() {
+		return stages;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	public long getThinkTimeMinMs() {
+		return thinkTimeMinMs;
+	}
+
+	public long getThinkTimeMaxMs() {
+		return thinkTimeMaxMs;
+	}
+
+	public long getWindowMs() {
+		return windowMs;
+	}
+
+	public double getMaxErrorRate() {
+		return maxErrorRate;
+	}
+
+	@Override
+	public String toString() {
+		return "stages=" + stages + ", iterations=" + iterations + ", thinkTime=" + thinkTimeMinMs + "-" + thinkTimeMaxMs
+				+ " ms";
+	}
+}
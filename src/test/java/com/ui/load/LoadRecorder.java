@@ -0,0 +1,27 @@
+package com.ui.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/** Collects the samples of all virtual users of one load run. */
+public class LoadRecorder {
+
+	private final long runStart;
+	private final Queue<LoadSample> samples = new ConcurrentLinkedQueue<>();
+
+	LoadRecorder(long runStart) {
+		this.runStart = runStart;
+	}
+
+	void record(String step, int user, long startMillis, long durationMs, Exception failure) {
+		String error = failure == null ? null
+				: failure.getClass().getSimpleName() + ": " + String.valueOf(failure.getMessage()).lines().findFirst().orElse("");
+		samples.add(new LoadSample(step, user, startMillis - runStart, durationMs, failure == null, error));
+	}
+
+	public List<LoadSample> getSamples() {
+		return new ArrayList<>(samples);
+	}
+}
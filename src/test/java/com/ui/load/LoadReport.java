@@ -0,0 +1,154 @@
+package com.ui.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.utility.LoggerUtility;
+import com.utility.MetricsUtility;
+
+/**
+ * Throughput and latency percentiles of a load run: one summary row per step
+ * plus the same numbers per time window (-DloadWindowSec), so saturation
+ * shows up as latency climbing while throughput flattens.
+ *
+ * Written to reports/load/&lt;flow&gt;-&lt;timestamp&gt;.json; the summary rows also
+ * go to MetricsUtility under {@value #CATEGORY} (Extent table +
+ * reports/metrics/load.json).
+ */
+public class LoadReport {
+
+	private static final Logger logger = LoggerUtility.getLogger(LoadReport.class);
+
+	public static final String CATEGORY = "load";
+
+	private static final String LOAD_FOLDER = "reports" + File.separator + "load";
+
+	private final String flowName;
+	private final LoadProfile profile;
+	private final List<LoadSample> samples;
+	private final long elapsedMs;
+
+	LoadReport(String flowName, LoadProfile profile, List<LoadSample> samples, long elapsedMs) {
+		this.flowName = flowName;
+		this.profile = profile;
+		this.samples = samples;
+		this.elapsedMs = elapsedMs;
+	}
+
+	public long getIterations() {
+		return samples.stream().filter(s -> s.step().equals(LoadSample.ITERATION)).count();
+	}
+
+	public double getErrorRate() {
+		long iterations = getIterations();
+		long failed = samples.stream().filter(s -> s.step().equals(LoadSample.ITERATION) && !s.success()).count();
+		return iterations == 0 ? 1.0 : (double) failed / iterations;
+	}
+
+	/** One row per step over the whole run. */
+	public List<Map<String, Object>> summary() {
+		List<Map<String, Object>> rows = new ArrayList<>();
+		samplesByStep(samples).forEach((step, stepSamples) -> rows.add(stats(step, stepSamples, elapsedMs)));
+		return rows;
+	}
+
+	/** The same statistics per time window. */
+	public List<Map<String, Object>> timeSeries() {
+		Map<Long, List<LoadSample>> byWindow = samples.stream()
+				.collect(Collectors.groupingBy(s -> s.startOffsetMs() / profile.getWindowMs(), TreeMap::new,
+						Collectors.toList()));
+		List<Map<String, Object>> windows = new ArrayList<>();
+		byWindow.forEach((window, windowSamples) -> {
+			long windowStart = window * profile.getWindowMs();
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("windowStartSec", windowStart / 1000);
+			row.put("targetUsers", profile.targetUsers(windowStart));
+			List<Map<String, Object>> steps = new ArrayList<>();
+			samplesByStep(windowSamples)
+					.forEach((step, stepSamples) -> steps.add(stats(step, stepSamples, profile.getWindowMs())));
+			row.put("steps", steps);
+			windows.add(row);
+		});
+		return windows;
+	}
+
+	/** Logs the summary, records it for the Extent report and writes the JSON file. */
+	public void publish() {
+		List<Map<String, Object>> summary = summary();
+		logger.info("📊 Load run '" + flowName + "' finished in " + elapsedMs / 1000 + " s → " + getIterations()
+				+ " iterations | error rate: " + String.format("%.2f%%", getErrorRate() * 100));
+		for (Map<String, Object> row : summary) {
+			logger.info("   " + row);
+			MetricsUtility.record(CATEGORY, row);
+		}
+
+		Map<String, Object> document = new LinkedHashMap<>();
+		document.put("flow", flowName);
+		document.put("profile", profile.toString());
+		document.put("elapsedMs", elapsedMs);
+		document.put("iterations", getIterations());
+		document.put("errorRate", getErrorRate());
+		document.put("summary", summary);
+		document.put("timeSeries", timeSeries());
+		document.put("errors", samples.stream().filter(s -> !s.success())
+				.collect(Collectors.groupingBy(s -> s.step() + " → " + s.error(), TreeMap::new, Collectors.counting())));
+
+		String timeStamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+		File file = new File(System.getProperty("user.dir") + File.separator + LOAD_FOLDER + File.separator + flowName
+				+ "-" + timeStamp + ".json");
+		try {
+			file.getParentFile().mkdirs();
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, document);
+			logger.info("📊 Load report → " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to write load report: " + file.getPath(), e);
+		}
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static Map<String, List<LoadSample>> samplesByStep(List<LoadSample> samples) {
+		return samples.stream().collect(Collectors.groupingBy(LoadSample::step, LinkedHashMap::new, Collectors.toList()));
+	}
+
+	private static Map<String, Object> stats(String step, List<LoadSample> stepSamples, long periodMs) {
+		long[] durations = stepSamples.stream().filter(LoadSample::success).mapToLong(LoadSample::durationMs).sorted()
+				.toArray();
+		long errors = stepSamples.stream().filter(s -> !s.success()).count();
+
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("step", step);
+		row.put("count", stepSamples.size());
+		row.put("errors", errors);
+		row.put("throughputPerSec", Math.round(stepSamples.size() * 100_000.0 / Math.max(1, periodMs)) / 100.0);
+		row.put("p50Ms", percentile(durations, 50));
+		row.put("p90Ms", percentile(durations, 90));
+		row.put("p95Ms", percentile(durations, 95));
+		row.put("p99Ms", percentile(durations, 99));
+		row.put("maxMs", durations.length == 0 ? null : durations[durations.length - 1]);
+		return row;
+	}
+
+	// Nearest-rank percentile of successful samples
+	private static Long percentile(long[] sorted, int percentile) {
+		if (sorted.length == 0) {
+			return null;
+		}
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+}
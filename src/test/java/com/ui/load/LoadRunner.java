@@ -0,0 +1,107 @@
+package com.ui.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+
+import com.constants.Browser;
+import com.utility.LoggerUtility;
+
+/**
+ * Drives a {@link LoadFlow} with concurrent virtual users following a
+ * {@link LoadProfile}.
+ *
+ * Every possible user gets its own thread (and browser, launched the first
+ * time the user becomes active). A user only starts an iteration while its
+ * index is below the profile's current target, which gives the ramp-up /
+ * ramp-down. When the last stage ends, running iterations are allowed to
+ * finish (up to {@value #GRACEFUL_STOP_SEC} s).
+ */
+public class LoadRunner {
+
+	private static final Logger logger = LoggerUtility.getLogger(LoadRunner.class);
+
+	private static final long GRACEFUL_STOP_SEC = 60;
+	private static final long IDLE_POLL_MS = 200;
+
+	private final LoadProfile profile;
+	private final Browser browser;
+	private final boolean isHeadLess;
+	private final boolean isLambdaTest;
+	private final String env;
+
+	public LoadRunner(LoadProfile profile, Browser browser, boolean isHeadLess, boolean isLambdaTest, String env) {
+		this.profile = profile;
+		this.browser = browser;
+		this.isHeadLess = isHeadLess;
+		this.isLambdaTest = isLambdaTest;
+		this.env = env;
+	}
+
+	public LoadReport run(LoadFlow flow) {
+		int maxUsers = profile.maxUsers();
+		if (maxUsers <= 0) {
+			throw new RuntimeException("❌ Load profile never starts a user: " + profile);
+		}
+		logger.info("🏋️ Load run '" + flow.name() + "' starting: " + maxUsers + " users max [" + profile + "]");
+
+		long runStart = System.currentTimeMillis();
+		LoadRecorder recorder = new LoadRecorder(runStart);
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(maxUsers,
+				runnable -> new Thread(runnable, "load-vu-" + threadIndex.getAndIncrement()));
+		for (int id = 0; id < maxUsers; id++) {
+			VirtualUser user = new VirtualUser(id, recorder, browser, isHeadLess, isLambdaTest, env);
+			executor.execute(() -> runUser(user, flow, runStart));
+		}
+
+		executor.shutdown();
+		try {
+			long limitMs = profile.totalDurationMs() + GRACEFUL_STOP_SEC * 1000;
+			if (!executor.awaitTermination(limitMs, TimeUnit.MILLISECONDS)) {
+				logger.warn("⚠️ Virtual users still busy after the graceful stop period. Interrupting them...");
+				executor.shutdownNow();
+				executor.awaitTermination(GRACEFUL_STOP_SEC, TimeUnit.SECONDS);
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		return new LoadReport(flow.name(), profile, recorder.getSamples(), System.currentTimeMillis() - runStart);
+	}
+
+	private void runUser(VirtualUser user, LoadFlow flow, long runStart) {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				long elapsed = System.currentTimeMillis() - runStart;
+				if (elapsed >= profile.totalDurationMs()) {
+					break;
+				}
+				if (profile.getIterations() > 0 && user.getIterations() >= profile.getIterations()) {
+					break;
+				}
+				if (user.getId() >= profile.targetUsers(elapsed)) {
+					Thread.sleep(IDLE_POLL_MS); // not ramped up yet (or ramped down)
+					continue;
+				}
+				if (!user.runIteration(flow)) {
+					logger.warn("⚠️ VU-" + user.getId() + " iteration " + user.getIterations() + " failed");
+				}
+				Thread.sleep(thinkTime());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			user.close();
+		}
+	}
+
+	private long thinkTime() {
+		return profile.getThinkTimeMinMs() == profile.getThinkTimeMaxMs() ? profile.getThinkTimeMinMs()
+				: ThreadLocalRandom.current().nextLong(profile.getThinkTimeMinMs(), profile.getThinkTimeMaxMs() + 1);
+	}
+}
@@ -0,0 +1,11 @@
+package com.ui.load;
+
+/**
+ * One measured step (or whole iteration) of a virtual user.
+ *
+ * @param startOffsetMs start time relative to the beginning of the load run
+ */
+public record LoadSample(String step, int user, long startOffsetMs, long durationMs, boolean success, String error) {
+
+	public static final String ITERATION = "iteration";
+}
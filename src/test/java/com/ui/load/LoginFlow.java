@@ -0,0 +1,45 @@
+package com.ui.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ui.pages.MyAccountPage;
+import com.ui.pojo.User;
+import com.utility.CSVReaderUtility;
+
+/**
+ * HomePage → LoginPage.doLoginWith → MyAccountPage.getProfileUserName, with
+ * the accounts of testData/loginData.csv handed out round robin.
+ */
+public class LoginFlow implements LoadFlow {
+
+	private final List<User> users = new ArrayList<>();
+
+	public LoginFlow() {
+		CSVReaderUtility.readCSVFile("loginData.csv").forEachRemaining(users::add);
+		if (users.isEmpty()) {
+			throw new RuntimeException("❌ No accounts in loginData.csv for the load flow");
+		}
+	}
+
+	@Override
+	public String name() {
+		return "login";
+	}
+
+	@Override
+	public void iterate(VirtualUser vu) throws Exception {
+		User user = users.get((vu.getId() + vu.getIterations()) % users.size());
+
+		vu.step("open-home", () -> vu.homePage().open());
+		MyAccountPage myAccountPage = vu.step("login",
+				() -> vu.homePage().goToLoginPage().doLoginWith(user.getUserName(), user.getPassword()));
+		vu.step("profile", () -> {
+			String profileName = myAccountPage.getProfileUserName();
+			if (!user.getUserName().equals(profileName)) {
+				throw new IllegalStateException("Profile shows '" + profileName + "' instead of " + user.getUserName());
+			}
+			return profileName;
+		});
+	}
+}
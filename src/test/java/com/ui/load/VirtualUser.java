@@ -0,0 +1,109 @@
+package com.ui.load;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.constants.Browser;
+import com.ui.pages.HomePage;
+import com.utility.CommandAuditUtility;
+import com.utility.MetricsUtility;
+
+/**
+ * A simulated user: one thread, one browser (launched on first use and kept
+ * for every iteration), cookies and storage cleared between iterations.
+ */
+public class VirtualUser {
+
+	/** A page-object action whose latency is measured. */
+	@FunctionalInterface
+	public interface Step<T> {
+		T run() throws Exception;
+	}
+
+	private final int id;
+	private final LoadRecorder recorder;
+	private final Browser browser;
+	private final boolean isHeadLess;
+	private final boolean isLambdaTest;
+	private final String env;
+
+	private HomePage homePage;
+	private int iterations;
+
+	VirtualUser(int id, LoadRecorder recorder, Browser browser, boolean isHeadLess, boolean isLambdaTest, String env) {
+		this.id = id;
+		this.recorder = recorder;
+		this.browser = browser;
+		this.isHeadLess = isHeadLess;
+		this.isLambdaTest = isLambdaTest;
+		this.env = env;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	/** The user's browser, launched (and timed as "browser-launch") on first use. */
+	public HomePage homePage() throws Exception {
+		if (homePage == null) {
+			homePage = step("browser-launch",
+					() -> new HomePage(browser, isHeadLess, isLambdaTest, "load-vu-" + id, env));
+		}
+		return homePage;
+	}
+
+	/** Runs and times one step; the exception (if any) is recorded and rethrown. */
+	public <T> T step(String name, Step<T> action) throws Exception {
+		long start = System.currentTimeMillis();
+		try {
+			T value = action.run();
+			recorder.record(name, id, start, System.currentTimeMillis() - start, null);
+			return value;
+		} catch (Exception e) {
+			recorder.record(name, id, start, System.currentTimeMillis() - start, e);
+			throw e;
+		}
+	}
+
+	/** Runs one iteration of the flow; returns false when it failed. */
+	boolean runIteration(LoadFlow flow) {
+		resetSession();
+		long start = System.currentTimeMillis();
+		Exception failure = null;
+		try {
+			flow.iterate(this);
+		} catch (Exception e) {
+			failure = e;
+		} finally {
+			iterations++;
+			// Page objects keep recording per-page metrics; nothing publishes them in load mode
+			MetricsUtility.reset();
+			CommandAuditUtility.reset();
+		}
+		recorder.record(LoadSample.ITERATION, id, start, System.currentTimeMillis() - start, failure);
+		return failure == null;
+	}
+
+	private void resetSession() {
+		if (homePage == null || homePage.getDriver() == null) {
+			return;
+		}
+		try {
+			WebDriver driver = homePage.getDriver();
+			driver.manage().deleteAllCookies();
+			((JavascriptExecutor) driver).executeScript("try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+		} catch (Exception e) {
+			// The next iteration reports whatever is wrong with the browser
+		}
+	}
+
+	void close() {
+		if (homePage != null && homePage.getDriver() != null) {
+			homePage.quitBrowser();
+		}
+	}
+}
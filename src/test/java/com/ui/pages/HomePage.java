@@ -5,9 +5,13 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 import com.constants.Browser;
+import com.ui.annotations.PerformanceBudget;
 import com.utility.BrowserUtility;
+import com.utility.HttpArchiveUtility;
 import com.utility.JsonConfigUtility;
 import com.utility.LoggerUtility;
+import com.utility.PerformanceBudgetUtility;
+import com.utility.ReadinessContract;
 
 public final class HomePage extends BrowserUtility {
 
@@ -25,19 +29,30 @@ public final class HomePage extends BrowserUtility {
         super(browserName, isHeadLess, isLambdaTest, testName,ENV);
         this.ENV = ENV;
         // Navigation Logic
-        String url = JsonConfigUtility.getEnvData(ENV.toUpperCase()).getUrl();
-        goToWebsite(url);
+        open();
         maximizeWindow();
     }
 
+    // Navigates (again) to the environment's start page; load mode reuses one HomePage per virtual user
+    public HomePage open() {
+        String url = HttpArchiveUtility.resolveUrl(ENV.toUpperCase(),
+                JsonConfigUtility.getEnvData(ENV.toUpperCase()).getUrl()); // local fixture server in replay mode
+        goToWebsite(url);
+        return this;
+    }
+
 
     @Override
-    public boolean PageLoadedSuccessfully() {
-        String currentUrl = getDriver().getCurrentUrl();
-        boolean isUrlCorrect = currentUrl.contains(JsonConfigUtility.getEnvData(ENV.toUpperCase()).getUrl()); 
-        boolean isSignButtonVisible = isElementDisplayed(SIGN_IN_BUTTON_LOCATOR);
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.create()
+                .urlContains(HttpArchiveUtility.resolveUrl(ENV.toUpperCase(),
+                        JsonConfigUtility.getEnvData(ENV.toUpperCase()).getUrl()))
+                .requireVisible(SIGN_IN_BUTTON_LOCATOR);
+    }
 
-        if (isUrlCorrect && isSignButtonVisible) {
+    @Override
+    public boolean PageLoadedSuccessfully() {
+        if (awaitReadiness()) {
             logger.info("HomePage loaded successfully.");
             return true;
         } else {
@@ -46,12 +61,15 @@ public final class HomePage extends BrowserUtility {
         }
     }
 
+    @PerformanceBudget(maxMs = 10000)
     public LoginPage goToLoginPage() {
-        logger.info("Trying to perform click to go to Sign in Page");
-        if (PageLoadedSuccessfully()) {
-            clickOn(SIGN_IN_BUTTON_LOCATOR);
-        }
-        
-        return new LoginPage(); 
+        return PerformanceBudgetUtility.step(HomePage.class, "goToLoginPage", () -> {
+            logger.info("Trying to perform click to go to Sign in Page");
+            if (PageLoadedSuccessfully()) {
+                clickOn(SIGN_IN_BUTTON_LOCATOR);
+            }
+
+            return new LoginPage();
+        });
     }
 }
@@ -5,8 +5,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import com.ui.annotations.PerformanceBudget;
 import com.utility.BrowserUtility;
 import com.utility.LoggerUtility;
+import com.utility.PerformanceBudgetUtility;
+import com.utility.ReadinessContract;
 
 public class LoginPage extends BrowserUtility {
 	
@@ -26,27 +29,34 @@ public class LoginPage extends BrowserUtility {
 	
 	
 	
+	@Override
+	protected ReadinessContract readinessContract() {
+		return ReadinessContract.create()
+				.requireVisible(EMAIL_TEXT_FIELD_LOCATOR, PASSWORD_TEXT_FIELD_LOCATOR, SUBMIT_BUTTON_LOCATOR);
+	}
+	
 	@Override
     public boolean PageLoadedSuccessfully() {    
         
-        return isElementDisplayed(EMAIL_TEXT_FIELD_LOCATOR) 
-            && isElementDisplayed(PASSWORD_TEXT_FIELD_LOCATOR) 
-            && isElementDisplayed(SUBMIT_BUTTON_LOCATOR);
+        return awaitReadiness();
     }
 	
+	@PerformanceBudget(maxMs = 15000)
 	public MyAccountPage doLoginWith(String userName,String password) {
 		
-		if(PageLoadedSuccessfully()) {
-			logger.info("Login page Loaded successfully... ");
-			enterText(EMAIL_TEXT_FIELD_LOCATOR, userName);
-			enterText(PASSWORD_TEXT_FIELD_LOCATOR,password);
-			clickOn(SUBMIT_BUTTON_LOCATOR);
-		}
-		else {
-			logger.warn("\"❌ Login Page Elements missing! Cannot attempt login.");
-		}
+		return PerformanceBudgetUtility.step(LoginPage.class, "doLoginWith", () -> {
+			if(PageLoadedSuccessfully()) {
+				logger.info("Login page Loaded successfully... ");
+				enterText(EMAIL_TEXT_FIELD_LOCATOR, userName);
+				enterText(PASSWORD_TEXT_FIELD_LOCATOR,password);
+				clickOn(SUBMIT_BUTTON_LOCATOR);
+			}
+			else {
+				logger.warn("\"❌ Login Page Elements missing! Cannot attempt login.");
+			}
 
-		return new MyAccountPage();
+			return new MyAccountPage();
+		});
 	}
 	
 
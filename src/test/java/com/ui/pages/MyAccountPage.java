@@ -3,8 +3,11 @@ package com.ui.pages;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 
+import com.ui.annotations.PerformanceBudget;
 import com.utility.BrowserUtility;
 import com.utility.LoggerUtility;
+import com.utility.PerformanceBudgetUtility;
+import com.utility.ReadinessContract;
 
 
 
@@ -19,13 +22,18 @@ public class MyAccountPage extends BrowserUtility {
 	Logger logger = LoggerUtility.getLogger(this.getClass());
 
 	private static final By SIGN_OUT_BUTTON_LOCATOR = By.id("submit");
-	private static final By ACCOUNT_USER_NAME_LOCATOR = By.xpath("//label[@id='userName-value']");
-	private static final By GO_TO_BOOK_STORE = By.xpath("//button[@id='gotoStore']");
+	private static final By ACCOUNT_USER_NAME_LOCATOR = By.id("userName-value");
+	private static final By GO_TO_BOOK_STORE = By.id("gotoStore");
+
+	@Override
+	protected ReadinessContract readinessContract() {
+		return ReadinessContract.create().requireVisible(ACCOUNT_USER_NAME_LOCATOR);
+	}
 
 	@Override
 	public boolean PageLoadedSuccessfully() {
 		
-		if(isElementDisplayed(ACCOUNT_USER_NAME_LOCATOR)) {
+		if(awaitReadiness()) {
 			logger.info("MyAccountPage Page Loaded Successfully✅");
 			
 			return true;
@@ -42,13 +50,16 @@ public class MyAccountPage extends BrowserUtility {
 		return new LoginPage();
 	}
 
+	@PerformanceBudget(maxMs = 10000)
 	public String getProfileUserName() {
-		if(PageLoadedSuccessfully()) {
-			String userName = getVisibleText(ACCOUNT_USER_NAME_LOCATOR);
-			logger.info("ProfileName 👤:"+userName);
-		return userName;
-		}
-		return null;
+		return PerformanceBudgetUtility.step(MyAccountPage.class, "getProfileUserName", () -> {
+			if(PageLoadedSuccessfully()) {
+				String userName = getVisibleText(ACCOUNT_USER_NAME_LOCATOR);
+				logger.info("ProfileName 👤:"+userName);
+			return userName;
+			}
+			return null;
+		});
 	}
 
 	public boolean signInConfirmation() {
@@ -6,6 +6,12 @@ public class Config {
     
     // Maps "DEV", "QA", "UAT" to their respective Environment objects
     private Map<String, Environment> environments;
+    
+    // Maps "block", "emulate", ... to DevTools network profiles
+    private Map<String, NetworkProfile> networkProfiles;
+
+    // Maps "fast-headless", "ci", "debug" to local browser launch profiles
+    private Map<String, LaunchProfile> launchProfiles;
 
     public Map<String, Environment> getEnvironments() {
         return environments;
@@ -14,4 +20,20 @@ public class Config {
     public void setEnvironments(Map<String, Environment> environments) {
         this.environments = environments;
     }
+
+    public Map<String, NetworkProfile> getNetworkProfiles() {
+        return networkProfiles;
+    }
+
+    public void setNetworkProfiles(Map<String, NetworkProfile> networkProfiles) {
+        this.networkProfiles = networkProfiles;
+    }
+
+    public Map<String, LaunchProfile> getLaunchProfiles() {
+        return launchProfiles;
+    }
+
+    public void setLaunchProfiles(Map<String, LaunchProfile> launchProfiles) {
+        this.launchProfiles = launchProfiles;
+    }
 }
\ No newline at end of file
@@ -10,9 +10,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 public class Environment {
     
     private String url;
+    private String apiUrl;      // backend base URL used by com.api for data setup / teardown
+    private String apiAuth;     // "basic" sends username/password with every API call, otherwise none
     private String username;
     private String password;
     private int timeout;
+    private int maxSessions;    // parallel sessions when this env runs next to others (-Denvs); 0 = suite thread-count
     @JsonProperty("MAX_NUMBER_OF_ATTEMPTS")
     private int MAX_NUMBER_OF_ATTEMPTS;
 
@@ -20,6 +23,12 @@ public class Environment {
     public String getUrl() { return url; }
     public void setUrl(String url) { this.url = url; }
 
+    public String getApiUrl() { return apiUrl; }
+    public void setApiUrl(String apiUrl) { this.apiUrl = apiUrl; }
+
+    public String getApiAuth() { return apiAuth; }
+    public void setApiAuth(String apiAuth) { this.apiAuth = apiAuth; }
+
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
 
@@ -28,6 +37,9 @@ public class Environment {
     
     public int getTimeout() { return timeout; }
     public void setTimeout(int timeout) { this.timeout = timeout; }
+
+    public int getMaxSessions() { return maxSessions; }
+    public void setMaxSessions(int maxSessions) { this.maxSessions = maxSessions; }
     
 	public int getMAX_NUMBER_OF_ATTEMPTS() {
 		return MAX_NUMBER_OF_ATTEMPTS;
@@ -0,0 +1,40 @@
+package com.ui.pojo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// One entry of "launchProfiles" in config.json (fast-headless, ci, debug, ...).
+// headless: true/false forces the mode, null follows the isHeadLess parameter
+// useProfileTemplate: clone a pre-warmed user-data-dir / Firefox profile for every session
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LaunchProfile {
+
+	private Boolean headless;
+	private boolean useProfileTemplate;
+	private List<String> chromeArgs = new ArrayList<>();
+	private List<String> firefoxArgs = new ArrayList<>();
+	private Map<String, Object> firefoxPrefs = new LinkedHashMap<>();
+
+	public Boolean getHeadless() { return headless; }
+	public void setHeadless(Boolean headless) { this.headless = headless; }
+
+	public boolean isUseProfileTemplate() { return useProfileTemplate; }
+	public void setUseProfileTemplate(boolean useProfileTemplate) { this.useProfileTemplate = useProfileTemplate; }
+
+	public List<String> getChromeArgs() { return chromeArgs; }
+	public void setChromeArgs(List<String> chromeArgs) { this.chromeArgs = chromeArgs; }
+
+	public List<String> getFirefoxArgs() { return firefoxArgs; }
+	public void setFirefoxArgs(List<String> firefoxArgs) { this.firefoxArgs = firefoxArgs; }
+
+	public Map<String, Object> getFirefoxPrefs() { return firefoxPrefs; }
+	public void setFirefoxPrefs(Map<String, Object> firefoxPrefs) { this.firefoxPrefs = firefoxPrefs; }
+
+	public boolean isHeadless(boolean requested) {
+		return headless == null ? requested : headless;
+	}
+}
@@ -0,0 +1,42 @@
+package com.ui.pojo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// One entry of "networkProfiles" in config.json.
+// Blocking: URL glob patterns and CDP resource types (Image, Font, Media, Stylesheet, Script, ...)
+// Emulation: latency + bandwidth; 0 means "not throttled"
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class NetworkProfile {
+
+	private List<String> blockedUrlPatterns = new ArrayList<>();
+	private List<String> blockedResourceTypes = new ArrayList<>();
+	private int latencyMs;
+	private int downloadKbps;
+	private int uploadKbps;
+
+	public List<String> getBlockedUrlPatterns() { return blockedUrlPatterns; }
+	public void setBlockedUrlPatterns(List<String> blockedUrlPatterns) { this.blockedUrlPatterns = blockedUrlPatterns; }
+
+	public List<String> getBlockedResourceTypes() { return blockedResourceTypes; }
+	public void setBlockedResourceTypes(List<String> blockedResourceTypes) { this.blockedResourceTypes = blockedResourceTypes; }
+
+	public int getLatencyMs() { return latencyMs; }
+	public void setLatencyMs(int latencyMs) { this.latencyMs = latencyMs; }
+
+	public int getDownloadKbps() { return downloadKbps; }
+	public void setDownloadKbps(int downloadKbps) { this.downloadKbps = downloadKbps; }
+
+	public int getUploadKbps() { return uploadKbps; }
+	public void setUploadKbps(int uploadKbps) { this.uploadKbps = uploadKbps; }
+
+	public boolean blocksRequests() {
+		return !blockedUrlPatterns.isEmpty() || !blockedResourceTypes.isEmpty();
+	}
+
+	public boolean emulatesNetwork() {
+		return latencyMs > 0 || downloadKbps > 0 || uploadKbps > 0;
+	}
+}
@@ -0,0 +1,44 @@
+package com.ui.pojo;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// One entry of history/test-history.json, keyed by "<class>.<method>|<data row>".
+// Durations and failure rate are exponentially weighted so recent runs count more.
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TestHistory {
+
+	private int runs;
+	private int failures;
+	private double averageDurationMs;
+	private double failureRate;
+	private long lastDurationMs;
+	private String lastStatus;
+	private long lastRun;
+
+	public int getRuns() { return runs; }
+	public void setRuns(int runs) { this.runs = runs; }
+
+	public int getFailures() { return failures; }
+	public void setFailures(int failures) { this.failures = failures; }
+
+	public double getAverageDurationMs() { return averageDurationMs; }
+	public void setAverageDurationMs(double averageDurationMs) { this.averageDurationMs = averageDurationMs; }
+
+	public double getFailureRate() { return failureRate; }
+	public void setFailureRate(double failureRate) { this.failureRate = failureRate; }
+
+	public long getLastDurationMs() { return lastDurationMs; }
+	public void setLastDurationMs(long lastDurationMs) { this.lastDurationMs = lastDurationMs; }
+
+	public String getLastStatus() { return lastStatus; }
+	public void setLastStatus(String lastStatus) { this.lastStatus = lastStatus; }
+
+	public long getLastRun() { return lastRun; }
+	public void setLastRun(long lastRun) { this.lastRun = lastRun; }
+
+	@Override
+	public String toString() {
+		return "TestHistory [runs=" + runs + ", failures=" + failures + ", averageDurationMs=" + averageDurationMs
+				+ ", failureRate=" + failureRate + ", lastStatus=" + lastStatus + "]";
+	}
+}
@@ -17,7 +17,7 @@ public class User {
 	}
 	@Override
 	public String toString() {
-		return "User [userName=" + userName + ", password=" + password + "]";
+		return "User [userName=" + userName + ", password=****]"; // keeps passwords out of logs and reports
 	}
 	
 	public User() {}
@@ -0,0 +1,38 @@
+package com.ui.test;
+
+import org.testng.Assert;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import com.constants.Browser;
+import com.ui.load.LoadProfile;
+import com.ui.load.LoadReport;
+import com.ui.load.LoadRunner;
+import com.ui.load.LoginFlow;
+
+/*Load mode (testng-load.xml / mvn test -Pload)
+ * Runs the login journey with concurrent virtual users instead of one browser per data row.
+ * Users, ramp-up, duration and think time come from the -Dload* properties (see LoadProfile).
+ */
+
+@Listeners({com.ui.listeners.TestListener.class})
+public class LoadTest {
+
+	@Parameters({ "browser", "isLambdaTest", "isHeadLess", "ENV" })
+	@Test(description = "Drives HomePage → LoginPage → MyAccountPage with concurrent virtual users",
+			groups = {"load"})
+	public void loginFlowLoadTest(@Optional("chrome") String browser, @Optional("false") boolean isLambdaTest,
+			@Optional("true") boolean isHeadLess, @Optional("DEV") String ENV) {
+
+		LoadProfile profile = LoadProfile.fromSystemProperties();
+		LoadReport report = new LoadRunner(profile, Browser.valueOf(browser.toUpperCase()), isHeadLess, isLambdaTest, ENV)
+				.run(new LoginFlow());
+		report.publish();
+
+		Assert.assertTrue(report.getIterations() > 0, "❌ Load run did not complete a single iteration.");
+		Assert.assertTrue(report.getErrorRate() <= profile.getMaxErrorRate(), "❌ Error rate "
+				+ report.getErrorRate() + " above the allowed " + profile.getMaxErrorRate());
+	}
+}
@@ -1,6 +1,10 @@
 package com.ui.test;
 
 
+import com.constants.Browser;
+import com.constants.Env;
+import com.ui.annotations.PerformanceBudget;
+import com.ui.annotations.TestMatrix;
 import com.ui.pages.MyAccountPage;
 import com.ui.pojo.User;
 import com.utility.LoggerUtility;
@@ -22,7 +26,7 @@ import org.testng.annotations.Test;
 
 
 
-@Listeners(com.ui.listeners.TestListener.class) // i can attatck multiple listeners
+@Listeners({com.ui.listeners.TestListener.class,com.ui.listeners.HistoryMethodInterceptor.class}) // i can attatck multiple listeners
 public class LoginTest extends TestBase{
 	
 	
@@ -30,6 +34,7 @@ public class LoginTest extends TestBase{
 	@Test(description = "Verifies with the valid user is able to login into the application ",
 			groups = {"Login Test","sanity"},dataProviderClass = com.ui.dataproviders.LoginDataProvider.class,
 			dataProvider = "LoginTestJsonDataProvider",retryAnalyzer = com.ui.listeners.MyRetryAnalyzer.class)
+	@PerformanceBudget(maxMs = 30000, steps = @PerformanceBudget.Step(name = "doLoginWith", maxMs = 12000))
 	public void loginJsonTest(User user ){
 		 
 		  MyAccountPage myAccountPage = homePage.goToLoginPage().doLoginWith(user.getUserName(),user.getPassword());
@@ -56,6 +61,29 @@ public class LoginTest extends TestBase{
 		
 	}
 	
+	@Test(description = "Verifies that users created through the API are able to login into the application",
+			groups = {"Login Test","api-seeded"},dataProviderClass = com.ui.dataproviders.LoginDataProvider.class,
+			dataProvider = "LoginTestApiSeededDataProvider",retryAnalyzer = com.ui.listeners.MyRetryAnalyzer.class)
+	public void loginApiSeededTest(User user ){
+		 
+		  MyAccountPage myAccountPage = homePage.goToLoginPage().doLoginWith(user.getUserName(),user.getPassword());
+		 
+		  Assert.assertEquals(myAccountPage.getProfileUserName(), user.getUserName());
+		  
+	}
+	
+	@Test(description = "Verifies login across browsers and environments with a pairwise-reduced matrix",
+			groups = {"Login Test","matrix"},dataProviderClass = com.ui.dataproviders.LoginDataProvider.class,
+			dataProvider = "LoginTestMatrixDataProvider",retryAnalyzer = com.ui.listeners.MyRetryAnalyzer.class)
+	@TestMatrix(browsers = {"CHROME","FIREFOX"}, envs = {"DEV","QA","UAT"}, mustInclude = "CHROME,DEV,*")
+	public void loginMatrixTest(Browser browser, Env env, User user ){
+		 
+		  MyAccountPage myAccountPage = homePage.goToLoginPage().doLoginWith(user.getUserName(),user.getPassword());
+		 
+		  Assert.assertEquals(myAccountPage.getProfileUserName(), user.getUserName());
+		  
+	}
+	
 //	@Test(description = "Verifies with the valid and invalid user is able to login into the application  using EXcel data",
 //			groups = {"Login Test","sanity"},dataProviderClass = com.ui.dataproviders.LoginDataProvider.class,dataProvider = "LoginTestExcelDataProvider")
 //	public void loginExcelTest(User user ){
@@ -2,15 +2,23 @@ package com.ui.test;
 
 import org.apache.logging.log4j.Logger;
 import org.testng.ITestResult;
+import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
 import com.constants.Browser;
+import com.constants.Env;
 import com.ui.pages.HomePage;
 import com.utility.BrowserUtility;
+import com.utility.CommandAuditUtility;
+import com.utility.EnvironmentCircuitBreaker;
 import com.utility.LoggerUtility;
+import com.utility.MetricsUtility;
+import com.utility.PerformanceBudgetUtility;
+import com.utility.SuiteBootstrap;
+import com.utility.TraceUtility;
 
 public class TestBase {
 
@@ -27,22 +35,45 @@ public class TestBase {
 			@Optional("true") boolean isHeadLess, @Optional("DEV") String ENV, ITestResult result) {
 
 		String testName = result.getMethod().getMethodName();
+		// Matrix rows (@TestMatrix) carry their own browser and environment
+		for (Object parameter : result.getParameters()) {
+			if (parameter instanceof Browser rowBrowser) {
+				browser = rowBrowser.name();
+			} else if (parameter instanceof Env rowEnv) {
+				ENV = rowEnv.name();
+			}
+		}
+		// Target known to be down (preflight / circuit breaker): skip before launching a browser
+		SuiteBootstrap.await("preflight");
+		EnvironmentCircuitBreaker.admit(ENV).ifPresent(reason -> {
+			throw new SkipException(reason);
+		});
+		MetricsUtility.reset(); // per-test metrics start clean on this thread
+		PerformanceBudgetUtility.reset();
+		CommandAuditUtility.reset();
+		TraceUtility.beginTest(testName); // timeline span for setup → body → teardown
 
 		logger.info("⚙️ SETUP: Initializing Test Environment [Cloud: " + isLambdaTest + " | Headless: " + isHeadLess
 				+ " | Environment: " + ENV + "]");
 
 		// ONE LINE TO RULE THEM ALL
 		// The HomePage/BrowserUtility now handles the 'if/else' logic internally
-		homePage = new HomePage(Browser.valueOf(browser.toUpperCase()), isHeadLess, isLambdaTest, testName, ENV);
+		Browser launchBrowser = Browser.valueOf(browser.toUpperCase());
+		String launchEnv = ENV;
+		homePage = TraceUtility.span("setup", "lifecycle")
+				.call(() -> new HomePage(launchBrowser, isHeadLess, isLambdaTest, testName, launchEnv));
 
 		logger.info("🛠 SETUP: Session Created Successfully ✅.");
 	}
 
 	@AfterMethod
 	public void tearDown() {
-		if (homePage != null && homePage.getDriver() != null) {
-			homePage.quitBrowser();
-		}
+		TraceUtility.span("teardown", "lifecycle").run(() -> {
+			if (homePage != null && homePage.getDriver() != null) {
+				homePage.quitBrowser();
+			}
+		});
+		TraceUtility.endTest();
 	}
 
 	public BrowserUtility getInstance() {
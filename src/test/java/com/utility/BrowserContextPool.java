@@ -0,0 +1,163 @@
+package com.utility;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Session mode where tests share browser processes instead of launching one
+ * each (-DbrowserContexts=true, local Chrome).
+ *
+ * Every test gets its own WebDriver BiDi user context (separate cookies,
+ * storage and cache, like an incognito window) with one tab in it; page
+ * objects keep using the normal driver, whose commands ContextRoutingExecutor
+ * routes to that tab. Up to -DcontextsPerBrowser tests share a browser; more
+ * browsers are launched on demand and quit when the JVM exits.
+ *
+ * Classic commands of the tests sharing a browser are serialized (the session
+ * has one "current window"), including blocking navigations and in-browser
+ * readiness scripts; the pauses between polls of client-side waits are not.
+ * An eager page-load strategy keeps the overlap high.
+ */
+public class BrowserContextPool {
+
+	private static final Logger logger = LoggerUtility.getLogger(BrowserContextPool.class);
+
+	public static final String CATEGORY = "browser-contexts";
+
+	private static final int CONTEXTS_PER_BROWSER = Integer
+			.parseInt(System.getProperty("contextsPerBrowser", "8").trim());
+
+	private static final class SharedBrowser {
+		private final WebDriver driver;
+		private final ContextRoutingExecutor router;
+		private int leased; // guarded by BrowserContextPool.class
+
+		private SharedBrowser(WebDriver driver, ContextRoutingExecutor router) {
+			this.driver = driver;
+			this.router = router;
+		}
+	}
+
+	private record Lease(SharedBrowser browser, String userContext, String window, long start) {
+	}
+
+	private static final List<SharedBrowser> browsers = new ArrayList<>();
+	private static final ThreadLocal<Lease> lease = new ThreadLocal<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextPool::shutdown, "browser-context-shutdown"));
+	}
+
+	private BrowserContextPool() {
+	}
+
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty("browserContexts", "false"));
+	}
+
+	/**
+	 * Opens a fresh user context + tab for the calling test in a shared browser
+	 * (launched with the given options when all are full) and returns the
+	 * driver, already routed to that tab.
+	 */
+	public static WebDriver lease(ChromeOptions options) {
+		release(); // a previous test on this thread that was not quit
+		SharedBrowser browser = acquire(options);
+		long start = System.currentTimeMillis();
+		try {
+			String userContext = new Browser(browser.driver).createUserContext();
+			String window = new BrowsingContext(browser.driver,
+					new CreateContextParameters(WindowType.TAB).userContext(userContext)).getId();
+			browser.router.bind(window);
+			lease.set(new Lease(browser, userContext, window, start));
+
+			Map<String, Object> values = new LinkedHashMap<>();
+			values.put("userContext", userContext);
+			values.put("contextCreationMs", System.currentTimeMillis() - start);
+			values.put("browsers", browserCount());
+			MetricsUtility.record(CATEGORY, values);
+			logger.info("🪟 User context " + userContext + " opened in shared browser ("
+					+ (System.currentTimeMillis() - start) + " ms)");
+			return browser.driver;
+		} catch (RuntimeException e) {
+			synchronized (BrowserContextPool.class) {
+				browser.leased--;
+			}
+			throw new RuntimeException("❌ Could not open a BiDi user context (is webSocketUrl enabled?)", e);
+		}
+	}
+
+	/**
+	 * Closes the calling test's user context (and its tab).
+	 *
+	 * @return true if the thread held a context, false if the caller must quit its driver
+	 */
+	public static boolean release() {
+		Lease current = lease.get();
+		if (current == null) {
+			return false;
+		}
+		lease.remove();
+		current.browser().router.unbind();
+		try {
+			new Browser(current.browser().driver).removeUserContext(current.userContext());
+			logger.info("🧽 User context " + current.userContext() + " closed after "
+					+ (System.currentTimeMillis() - current.start()) + " ms");
+		} catch (RuntimeException e) {
+			logger.warn("⚠️ Could not remove user context " + current.userContext() + ". Cause: " + e.getMessage());
+		} finally {
+			synchronized (BrowserContextPool.class) {
+				current.browser().leased--;
+			}
+		}
+		return true;
+	}
+
+	private static synchronized SharedBrowser acquire(ChromeOptions options) {
+		for (SharedBrowser browser : browsers) {
+			if (browser.leased < CONTEXTS_PER_BROWSER) {
+				browser.leased++;
+				return browser;
+			}
+		}
+		long start = System.currentTimeMillis();
+		options.setCapability("webSocketUrl", true); // BiDi
+		ContextRoutingExecutor[] router = new ContextRoutingExecutor[1];
+		WebDriver driver = DriverServiceManager.newChromeSession(options, executor -> {
+			router[0] = new ContextRoutingExecutor(executor);
+			return router[0];
+		});
+		SharedBrowser browser = new SharedBrowser(driver, router[0]);
+		browser.leased++;
+		browsers.add(browser);
+		logger.info("🚀 Shared browser #" + browsers.size() + " launched in " + (System.currentTimeMillis() - start)
+				+ " ms (up to " + CONTEXTS_PER_BROWSER + " isolated tests)");
+		return browser;
+	}
+
+	private static synchronized int browserCount() {
+		return browsers.size();
+	}
+
+	public static synchronized void shutdown() {
+		for (SharedBrowser browser : browsers) {
+			try {
+				logger.info("🛑 Quitting shared browser (" + browser.router.getSwitchCount() + " window switches)");
+				browser.driver.quit();
+			} catch (RuntimeException e) {
+				logger.warn("⚠️ Failed to quit shared browser. Cause: " + e.getMessage());
+			}
+		}
+		browsers.clear();
+	}
+}
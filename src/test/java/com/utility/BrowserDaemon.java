@@ -0,0 +1,532 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local browser daemon that keeps warm Chrome sessions across Maven runs.
+ *
+ * DAEMON (mvn -Pbrowser-daemon test-compile exec:java): a WebDriver endpoint on
+ * 127.0.0.1 in front of the shared chromedriver. "New session" hands out an
+ * idle session created earlier with the same capabilities; "delete session"
+ * resets it (a fresh tab replaces every window, cookies, storage of visited
+ * origins, cache, timeouts) and keeps it for the next run. Sessions of a run that
+ * crashed are reclaimed once unused for -DdaemonLeaseTimeoutSec. The daemon
+ * stops after -DdaemonIdleMin without requests.
+ *
+ * Every request must carry the daemon's token ({@value #TOKEN_HEADER}): a
+ * random value written to history/browser-daemon.token, readable by the
+ * owner only, so other local users cannot drive the warm (logged-in) sessions.
+ *
+ * CLIENT (opt-in: -DbrowserDaemon=true|auto): when the daemon answers, local
+ * Chrome sessions are created through it instead of launching a browser.
+ * "true" fails the run when no daemon answers, "auto" falls back to a launch.
+ */
+public class BrowserDaemon {
+
+	private static final Logger logger = LoggerUtility.getLogger(BrowserDaemon.class);
+
+	private static final String MODE = System.getProperty("browserDaemon", "false").trim().toLowerCase();
+	private static final int PORT = Integer.parseInt(System.getProperty("daemonPort", "4455").trim());
+	private static final int POOL_SIZE = Integer.parseInt(System.getProperty("daemonPoolSize", "3").trim());
+	private static final long IDLE_MS = Long.parseLong(System.getProperty("daemonIdleMin", "30").trim()) * 60_000;
+	private static final long LEASE_TIMEOUT_MS = Long
+			.parseLong(System.getProperty("daemonLeaseTimeoutSec", "300").trim()) * 1000;
+
+	private static final String STATE_FILE = "history" + File.separator + "browser-daemon.json";
+	private static final String TOKEN_FILE = "history" + File.separator + "browser-daemon.token";
+	private static final String TOKEN_HEADER = "X-Sentinel-Daemon-Token";
+	private static final String STATUS_PATH = "/sentinel-daemon/status";
+	private static final Pattern SESSION_PATH = Pattern.compile("^/session/([^/]+)(/.*)?$");
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final ObjectMapper canonicalMapper = new ObjectMapper()
+			.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+	private static final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(2)).build();
+
+	private static volatile URL endpoint; // client: null = not probed yet
+	private static volatile boolean available;
+	private static volatile String token; // client: read from TOKEN_FILE, daemon: generated at start
+
+	private BrowserDaemon() {
+	}
+
+	// ================================================================================
+	// CLIENT
+	// ================================================================================
+
+	/** True when local Chrome sessions go through a running daemon (probed once per JVM). */
+	public static boolean isAvailable() {
+		if ("false".equals(MODE)) {
+			return false;
+		}
+		if (endpoint == null) {
+			synchronized (BrowserDaemon.class) {
+				if (endpoint == null) {
+					int port = readState().map(state -> state.path("port").asInt(PORT)).orElse(PORT);
+					token = readToken();
+					available = token != null && probe(port);
+					endpoint = toUrl("http://127.0.0.1:" + port);
+					if (available) {
+						logger.info("🔥 Browser daemon detected on " + endpoint + ": using its warm sessions");
+					}
+				}
+			}
+		}
+		if (!available && "true".equals(MODE)) {
+			throw new RuntimeException("❌ -DbrowserDaemon=true but no daemon answers on " + endpoint
+					+ ". Start it with: mvn -Pbrowser-daemon test-compile exec:java");
+		}
+		return available;
+	}
+
+	/** A Chrome session leased from the daemon; quit() hands it back for the next test or run. */
+	public static WebDriver lease(ChromeOptions options) {
+		long start = System.currentTimeMillis();
+		String leaseToken = token;
+		WebDriver driver = DriverServiceManager.newChromeSession(options, endpoint,
+				next -> request -> next.execute(request.setHeader(TOKEN_HEADER, leaseToken)));
+		logger.info("🔥 Daemon session leased in " + (System.currentTimeMillis() - start) + " ms");
+		return driver;
+	}
+
+	/** Pid of the running daemon (from its state file), or -1. */
+	public static long daemonPid() {
+		return readState().map(state -> state.path("pid").asLong(-1)).orElse(-1L);
+	}
+
+	private static boolean probe(int port) {
+		try {
+			HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + STATUS_PATH))
+					.header(TOKEN_HEADER, token).timeout(Duration.ofMillis(500)).GET().build();
+			int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			if (status == 401) {
+				logger.warn("⚠️ Browser daemon on port " + port + " rejected the token in " + TOKEN_FILE);
+			}
+			return status == 200;
+		} catch (IOException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	// ================================================================================
+	// DAEMON
+	// ================================================================================
+
+	private static final class Session {
+		private final String id;
+		private final String key; // canonical requested capabilities
+		private final byte[] newSessionResponse; // replayed to every client leasing it
+		private final Set<String> origins = ConcurrentHashMap.newKeySet(); // storage to clear on reset
+		private volatile long lastUsed = System.currentTimeMillis();
+
+		private Session(String id, String key, byte[] newSessionResponse) {
+			this.id = id;
+			this.key = key;
+			this.newSessionResponse = newSessionResponse;
+		}
+	}
+
+	private static final Map<String, Deque<Session>> idleSessions = new ConcurrentHashMap<>();
+	private static final Map<String, Session> leasedSessions = new ConcurrentHashMap<>();
+	private static final Map<String, AtomicInteger> warming = new ConcurrentHashMap<>();
+	private static final AtomicBoolean stopped = new AtomicBoolean();
+	private static final AtomicInteger hits = new AtomicInteger();
+	private static final AtomicInteger misses = new AtomicInteger();
+	private static final ExecutorService background = Executors.newCachedThreadPool();
+	private static volatile long lastActivity = System.currentTimeMillis();
+	private static volatile String driverUrl;
+	private static HttpServer server;
+	private static ExecutorService serverExecutor;
+	private static ScheduledExecutorService housekeeping;
+
+	public static void main(String[] args) throws IOException {
+		try {
+			server = HttpServer.create(new InetSocketAddress("127.0.0.1", PORT), 0);
+		} catch (BindException e) {
+			logger.error("❌ Port " + PORT + " is in use: is a browser daemon already running? (-DdaemonPort=N)");
+			return;
+		}
+		token = writeToken();
+		driverUrl = DriverServiceManager.chromeServiceUrl().toString().replaceAll("/$", "");
+		server.createContext("/", BrowserDaemon::handle);
+		serverExecutor = Executors.newCachedThreadPool(); // commands of parallel tests
+		server.setExecutor(serverExecutor);
+		server.start();
+		writeState();
+		Runtime.getRuntime().addShutdownHook(new Thread(BrowserDaemon::shutdown, "browser-daemon-shutdown"));
+		housekeeping = Executors.newSingleThreadScheduledExecutor();
+		housekeeping.scheduleWithFixedDelay(BrowserDaemon::housekeeping, 15, 15, TimeUnit.SECONDS);
+		logger.info("🔥 Browser daemon listening on http://127.0.0.1:" + PORT + " (pid " + ProcessHandle.current().pid()
+				+ ", chromedriver " + driverUrl + ", pool " + POOL_SIZE + " per capability set, stops after "
+				+ IDLE_MS / 60_000 + " min idle)");
+	}
+
+	private static void handle(HttpExchange exchange) throws IOException {
+		String method = exchange.getRequestMethod();
+		String path = exchange.getRequestURI().getRawPath();
+		byte[] body = exchange.getRequestBody().readAllBytes();
+		if (!authorized(exchange.getRequestHeaders().getFirst(TOKEN_HEADER))) {
+			logger.warn("⚠️ Daemon refused " + method + " " + path + ": missing or wrong " + TOKEN_HEADER);
+			respond(exchange, 401, mapper.writeValueAsBytes(Map.of("value",
+					Map.of("error", "unknown error", "message", "browser daemon: missing or wrong " + TOKEN_HEADER))));
+			return;
+		}
+		lastActivity = System.currentTimeMillis();
+		try {
+			if (STATUS_PATH.equals(path)) {
+				respond(exchange, 200, mapper.writeValueAsBytes(status()));
+				return;
+			}
+			if ("POST".equals(method) && "/session".equals(path)) {
+				newSession(exchange, body);
+				return;
+			}
+			Matcher matcher = SESSION_PATH.matcher(path);
+			Session session = matcher.matches() ? leasedSessions.get(matcher.group(1)) : null;
+			if (session != null) {
+				session.lastUsed = System.currentTimeMillis();
+				if ("DELETE".equals(method) && matcher.group(2) == null) {
+					respond(exchange, 200, "{\"value\":null}".getBytes(StandardCharsets.UTF_8));
+					leasedSessions.remove(session.id);
+					background.execute(() -> giveBack(session));
+					return;
+				}
+				if ("POST".equals(method) && "/url".equals(matcher.group(2))) {
+					rememberOrigin(session, mapper.readTree(body).path("url").asText());
+				}
+			}
+			String query = exchange.getRequestURI().getRawQuery();
+			HttpResponse<byte[]> response = forward(method, path + (query == null ? "" : "?" + query), body);
+			respond(exchange, response.statusCode(), response.body());
+		} catch (Exception e) {
+			logger.warn("⚠️ Daemon failed to serve " + method + " " + path + ". Cause: " + e.getMessage());
+			respond(exchange, 500, mapper.writeValueAsBytes(
+					Map.of("value", Map.of("error", "unknown error", "message", "browser daemon: " + e.getMessage()))));
+		}
+	}
+
+	private static void newSession(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+		String key = canonicalMapper.writeValueAsString(mapper.treeToValue(mapper.readTree(body).path("capabilities"),
+				Object.class));
+		Deque<Session> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+		Session session;
+		while ((session = idle.pollFirst()) != null) {
+			if (forward("GET", "/session/" + session.id + "/window", null).statusCode() == 200) {
+				break;
+			}
+			logger.warn("⚠️ Warm session " + session.id + " is gone, discarding it.");
+		}
+		if (session != null) {
+			hits.incrementAndGet();
+			logger.info("♻️  Warm session leased: " + session.id);
+		} else {
+			long start = System.currentTimeMillis();
+			session = create(key, body);
+			if (session == null) {
+				// Creation failed: pass chromedriver's error through
+				HttpResponse<byte[]> response = forward("POST", "/session", body);
+				respond(exchange, response.statusCode(), response.body());
+				return;
+			}
+			misses.incrementAndGet();
+			logger.info("🆕 No warm session for these capabilities: created " + session.id + " in "
+					+ (System.currentTimeMillis() - start) + " ms");
+		}
+		session.lastUsed = System.currentTimeMillis();
+		session.origins.clear();
+		leasedSessions.put(session.id, session);
+		respond(exchange, 200, session.newSessionResponse);
+		if (idle.isEmpty()) {
+			warmUp(key, body); // the next lease of these capabilities finds one ready
+		}
+	}
+
+	// Null when chromedriver refused the session
+	private static Session create(String key, byte[] body) throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = forward("POST", "/session", body);
+		String id = response.statusCode() == 200 ? mapper.readTree(response.body()).path("value").path("sessionId").asText("")
+				: "";
+		return id.isEmpty() ? null : new Session(id, key, response.body());
+	}
+
+	private static void warmUp(String key, byte[] body) {
+		AtomicInteger inFlight = warming.computeIfAbsent(key, k -> new AtomicInteger());
+		if (inFlight.incrementAndGet() > 1) {
+			inFlight.decrementAndGet();
+			return;
+		}
+		background.execute(() -> {
+			try {
+				Session session = create(key, body);
+				if (session != null) {
+					idleSessions.get(key).addLast(session);
+					logger.info("🔥 Spare warm session ready: " + session.id);
+				}
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not warm up a spare session. Cause: " + e.getMessage());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		});
+	}
+
+	// Reset, then keep (pool not full) or quit
+	private static void giveBack(Session session) {
+		Deque<Session> idle = idleSessions.computeIfAbsent(session.key, k -> new ConcurrentLinkedDeque<>());
+		try {
+			if (idle.size() < POOL_SIZE) {
+				reset(session);
+				idle.addLast(session);
+				logger.info("♻️  Session " + session.id + " reset and kept warm (" + idle.size() + " idle)");
+				return;
+			}
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not reset session " + session.id + ", quitting it. Cause: " + e.getMessage());
+		}
+		quitQuietly(session);
+	}
+
+	private static void reset(Session session) throws IOException, InterruptedException {
+		String base = "/session/" + session.id;
+		List<String> handles = new ArrayList<>();
+		mapper.readTree(call("GET", base + "/window/handles", null)).path("value")
+				.forEach(handle -> handles.add(handle.asText()));
+		// sessionStorage lives with the tab: the next lease gets a fresh one, the old tabs are closed
+		String freshTab = mapper.readTree(call("POST", base + "/window/new", Map.of("type", "tab"))).path("value")
+				.path("handle").asText();
+		for (String handle : handles) {
+			call("POST", base + "/window", Map.of("handle", handle));
+			// Origin the test ended on (navigated to by clicks / redirects, not only by get())
+			rememberOrigin(session, mapper.readTree(call("POST", base + "/execute/sync",
+					Map.of("script", "return location.href;", "args", List.of()))).path("value").asText());
+			call("DELETE", base + "/window", null);
+		}
+		call("POST", base + "/window", Map.of("handle", freshTab));
+		cdp(base, "Network.clearBrowserCookies", Map.of());
+		cdp(base, "Network.clearBrowserCache", Map.of());
+		for (String origin : session.origins) {
+			cdp(base, "Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+		}
+		session.origins.clear();
+		call("POST", base + "/timeouts", Map.of("implicit", 0, "pageLoad", 300_000, "script", 30_000));
+	}
+
+	private static void cdp(String base, String command, Map<String, Object> params)
+			throws IOException, InterruptedException {
+		call("POST", base + "/goog/cdp/execute", Map.of("cmd", command, "params", params));
+	}
+
+	private static void rememberOrigin(Session session, String url) {
+		try {
+			URI uri = URI.create(url);
+			if (uri.getScheme() != null && uri.getScheme().startsWith("http") && uri.getHost() != null) {
+				session.origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : ""));
+			}
+		} catch (IllegalArgumentException e) {
+			// Not a URL: nothing to clear
+		}
+	}
+
+	// Abandoned leases (crashed runs) go back to the pool; a daemon idle for too long stops
+	private static void housekeeping() {
+		long now = System.currentTimeMillis();
+		leasedSessions.values().removeIf(session -> {
+			if (now - session.lastUsed < LEASE_TIMEOUT_MS) {
+				return false;
+			}
+			logger.warn("⚠️ Session " + session.id + " unused for " + LEASE_TIMEOUT_MS / 1000
+					+ "s (client gone?): reclaiming it.");
+			background.execute(() -> giveBack(session));
+			return true;
+		});
+		if (now - lastActivity >= IDLE_MS && leasedSessions.isEmpty()) {
+			logger.info("💤 Browser daemon idle for " + IDLE_MS / 60_000 + " min: shutting down.");
+			shutdown(); // no thread left running: main's JVM ends on its own
+		}
+	}
+
+	private static void shutdown() {
+		if (!stopped.compareAndSet(false, true)) {
+			return;
+		}
+		if (housekeeping != null) {
+			housekeeping.shutdown(); // may be running this very call: no interrupt
+		}
+		if (server != null) {
+			server.stop(0);
+			serverExecutor.shutdownNow();
+		}
+		// Unreachable from here on: clients must not find a port / token to try
+		new File(System.getProperty("user.dir") + File.separator + STATE_FILE).delete();
+		new File(System.getProperty("user.dir") + File.separator + TOKEN_FILE).delete();
+		background.shutdownNow();
+		idleSessions.values().forEach(idle -> idle.forEach(BrowserDaemon::quitQuietly));
+		leasedSessions.values().forEach(BrowserDaemon::quitQuietly);
+		DriverServiceManager.shutdown();
+		logger.info("🔥 Browser daemon stopped: " + hits.get() + " warm lease(s), " + misses.get() + " cold start(s)");
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static Map<String, Object> status() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("pid", ProcessHandle.current().pid());
+		status.put("idle", idleSessions.values().stream().mapToInt(Deque::size).sum());
+		status.put("leased", leasedSessions.size());
+		status.put("warmLeases", hits.get());
+		status.put("coldStarts", misses.get());
+		return status;
+	}
+
+	private static HttpResponse<byte[]> forward(String method, String path, byte[] body)
+			throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(driverUrl + path))
+				.header("Content-Type", "application/json; charset=utf-8")
+				.method(method, body == null || body.length == 0 ? HttpRequest.BodyPublishers.noBody()
+						: HttpRequest.BodyPublishers.ofByteArray(body))
+				.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+	}
+
+	// A daemon-side command: anything but 200 fails the reset
+	private static byte[] call(String method, String path, Object payload) throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = forward(method, path,
+				payload == null ? null : mapper.writeValueAsBytes(payload));
+		if (response.statusCode() != 200) {
+			throw new IOException(method + " " + path + " → HTTP " + response.statusCode() + ": "
+					+ new String(response.body(), StandardCharsets.UTF_8).lines().findFirst().orElse(""));
+		}
+		return response.body();
+	}
+
+	private static void quitQuietly(Session session) {
+		try {
+			forward("DELETE", "/session/" + session.id, null);
+		} catch (IOException e) {
+			logger.warn("⚠️ Failed to quit daemon session " + session.id + ". Cause: " + e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static boolean authorized(String presented) {
+		return presented != null && MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8),
+				token.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// A fresh random token, in a file only the owner can read (POSIX) or in the user's project dir (elsewhere)
+	private static String writeToken() throws IOException {
+		byte[] random = new byte[32];
+		new SecureRandom().nextBytes(random);
+		String value = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+		Path file = Path.of(System.getProperty("user.dir"), TOKEN_FILE);
+		Files.createDirectories(file.getParent());
+		Files.deleteIfExists(file);
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}
+		Files.writeString(file, value, StandardCharsets.UTF_8);
+		return value;
+	}
+
+	private static String readToken() {
+		try {
+			return Files.readString(Path.of(System.getProperty("user.dir"), TOKEN_FILE), StandardCharsets.UTF_8).trim();
+		} catch (IOException e) {
+			return null; // no daemon started from this project, or not ours to read
+		}
+	}
+
+	private static void writeState() {
+		File file = new File(System.getProperty("user.dir") + File.separator + STATE_FILE);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writerWithDefaultPrettyPrinter().writeValue(file,
+					Map.of("pid", ProcessHandle.current().pid(), "port", PORT, "startedAt", System.currentTimeMillis()));
+		} catch (IOException e) {
+			logger.warn("⚠️ Could not write " + STATE_FILE + ". Cause: " + e.getMessage());
+		}
+	}
+
+	private static Optional<JsonNode> readState() {
+		File file = new File(System.getProperty("user.dir") + File.separator + STATE_FILE);
+		if (!file.exists()) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(mapper.readTree(file));
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static URL toUrl(String url) {
+		try {
+			return URI.create(url).toURL();
+		} catch (MalformedURLException e) {
+			throw new RuntimeException("❌ Invalid daemon URL: " + url, e);
+		}
+	}
+}
@@ -1,9 +1,14 @@
 package com.utility;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.Logger;
@@ -11,6 +16,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
@@ -21,11 +27,13 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import com.constants.Browser;
+import com.ui.pojo.LaunchProfile;
 
 /**
  * Base Class for all Page Objects. Handles Driver lifecycle, Synchronization,
@@ -47,17 +55,35 @@ public abstract class BrowserUtility {
 
 	protected WebDriverWait wait;
 	protected int timeOutSec;
+	private boolean performanceCaptured; // one page-performance record per page object
 
 	// Logger specifically for the child class calling this utility
 	Logger logger = LoggerUtility.getLogger(this.getClass());
 
 	public abstract boolean PageLoadedSuccessfully();
 
+	/**
+	 * Readiness contract of the page (elements, URL, network idle, JS predicate).
+	 * Page objects override this; null means "no contract".
+	 */
+	protected ReadinessContract readinessContract() {
+		return null;
+	}
+
+	/**
+	 * Page-load strategy from -DpageLoadStrategy=normal|eager|none. With eager /
+	 * none, navigation returns early and the readiness contract decides when the
+	 * page is usable.
+	 */
+	public static PageLoadStrategy getPageLoadStrategy() {
+		return PageLoadStrategy.fromString(System.getProperty("pageLoadStrategy", "normal").trim().toLowerCase());
+	}
+
 	// 1. Helper to log Session ID
 	private void logSessionInfo() {
-		WebDriver currentDriver = driver.get();
+		WebDriver currentDriver = CommandAuditUtility.unwrap(driver.get());
 
-		if (driver.get() instanceof RemoteWebDriver) {
+		if (currentDriver instanceof RemoteWebDriver) {
 			SessionId sessionId = ((RemoteWebDriver) currentDriver).getSessionId();
 			logger.info("-------------------------------------------------------");
 			logger.info("🆔   Session ID: " + sessionId);
@@ -95,22 +121,39 @@ public abstract class BrowserUtility {
 		threadEnv.set(ENV.toUpperCase());
 		initEnvConfig();
 
-		if (isLambdaTest) {
-			// CLOUD EXECUTION
-			logger.info("☁️ Running Cloud Browser Instance...");
-			// passing 'isHeadLess' here allows us to toggle Video/Visual logs on LambdaTest
-			WebDriver cloudDriver = LamdaTestUtility.initializeLambdaTestSession(browserName.toString(), testName,
-					isHeadLess);
-			driver.set(cloudDriver);
-
-		} else {
-			// 💻 LOCAL EXECUTION
-			logger.info("🏠💻 Running Local Browser Instance...");
-			launchLocalBrowser(browserName, isHeadLess);
-
+		TraceUtility.span("browser-launch", "lifecycle").arg("browser", browserName).arg("cloud", isLambdaTest)
+				.run(() -> {
+					if (isLambdaTest) {
+						// CLOUD EXECUTION
+						logger.info("☁️ Running Cloud Browser Instance...");
+						// passing 'isHeadLess' here allows us to toggle Video/Visual logs on LambdaTest
+						WebDriver cloudDriver = LamdaTestUtility.initializeLambdaTestSession(browserName.toString(),
+								testName, isHeadLess);
+						driver.set(cloudDriver);
+
+					} else {
+						// 💻 LOCAL EXECUTION
+						logger.info("🏠💻 Running Local Browser Instance...");
+						SuiteBootstrap.await("driver"); // driver binary resolved / service started during bootstrap
+						launchLocalBrowser(browserName, isHeadLess);
+
+					}
+				});
+
+		// Block / throttle (-DnetworkProfile) or record traffic for this session; CDP would act on the whole shared browser
+		if (!BrowserContextPool.isEnabled() || isLambdaTest) {
+			TraceUtility.span("network-profile", "lifecycle").run(() -> NetworkProfileUtility.apply(getDriver()));
+			if (!isLambdaTest) {
+				HttpArchiveUtility.startRecording(getDriver(), ENV); // -DhttpArchive=record
+				ResourceSampler.register(testName, getDriver()); // CPU / RSS of this session's browser processes
+				SessionWatchdog.track(getDriver()); // -DreapOrphans: a later run can clean up after a crash
+			}
 		}
+		driver.set(SessionWatchdog.guard(driver.get(), testName)); // hung commands kill the browser, free the worker
+		driver.set(CommandAuditUtility.decorate(driver.get())); // per-test WebDriver command audit
 
 		setupWebDriverWait();
+		setupScriptTimeout();
 		logSessionInfo();
 	}
 
@@ -120,6 +163,7 @@ public abstract class BrowserUtility {
 	public BrowserUtility(Browser browserName) {
 		launchLocalBrowser(browserName, false);
 		setupWebDriverWait();
+		setupScriptTimeout();
 	}
 
 	// ================================================================================
@@ -127,28 +171,104 @@ public abstract class BrowserUtility {
 	// ================================================================================
 
 	private void launchLocalBrowser(Browser browserName, boolean isHeadLess) {
-		logger.info("💻 Launching Local Browser...");
+		// Named launch profile from config.json (-DlaunchProfile); null = plain launch
+		LaunchProfile profile = LaunchProfileUtility.getProfile();
+		boolean headless = profile == null ? isHeadLess : profile.isHeadless(isHeadLess);
+		logger.info("💻 Launching Local Browser... [Page load strategy: " + getPageLoadStrategy() + " | Launch profile: "
+				+ LaunchProfileUtility.getProfileName() + "]");
+
+		long cloneMs = 0;
+		long start = System.currentTimeMillis();
 		if (browserName == Browser.CHROME) {
-			ChromeOptions options = new ChromeOptions();
-			if (isHeadLess) {
-				options.addArguments("--headless=new");
-				options.addArguments("--disable-dev-shm-usage"); // Overcomes limited resource problems
-				options.addArguments("--window-size=1920,1080");
-				driver.set(new ChromeDriver(options));
+			List<String> args = new ArrayList<>();
+			if (headless) {
+				args.add("--headless=new");
+				args.add("--disable-dev-shm-usage"); // Overcomes limited resource problems
+				args.add("--window-size=1920,1080");
+			}
+			if (profile != null) {
+				args.addAll(profile.getChromeArgs());
+			}
+			args.addAll(HttpArchiveUtility.chromeArgs()); // replay: only the local fixture server resolves
+			if (BrowserContextPool.isEnabled()) {
+				// Shared browser, isolated BiDi user context per test (no per-test launch to record)
+				driver.set(BrowserContextPool.lease(chromeOptions(args, null)));
+				return;
+			}
+			if (BrowserDaemon.isAvailable()) {
+				// Warm session of the local browser daemon (-DbrowserDaemon): no launch to record
+				driver.set(BrowserDaemon.lease(chromeOptions(args, null)));
+				return;
+			}
+			if (profile != null && profile.isUseProfileTemplate()) {
+				Path userDataDir = LaunchProfileUtility.prepareSessionDir(browserName, args,
+						template -> startChrome(chromeOptions(args, template)));
+				cloneMs = System.currentTimeMillis() - start;
+				start = System.currentTimeMillis();
+				driver.set(startChrome(chromeOptions(args, userDataDir)));
 			} else {
-				driver.set(new ChromeDriver());
+				driver.set(startChrome(chromeOptions(args, null)));
 			}
 		} else if (browserName == Browser.FIREFOX) {
-			FirefoxOptions options = new FirefoxOptions();
-			if (isHeadLess) {
-				options.addArguments("--headless");
-				options.addArguments("--width=1920");
-				options.addArguments("--height=1080");
-				driver.set(new FirefoxDriver(options));
+			if (BrowserContextPool.isEnabled()) {
+				logger.warn("⚠️ -DbrowserContexts is supported for local Chrome only: launching a Firefox per test.");
+			}
+			List<String> args = new ArrayList<>();
+			if (headless) {
+				args.add("--headless");
+				args.add("--width=1920");
+				args.add("--height=1080");
+			}
+			Map<String, Object> prefs = new LinkedHashMap<>();
+			if (profile != null) {
+				args.addAll(profile.getFirefoxArgs());
+				prefs.putAll(profile.getFirefoxPrefs());
+			}
+			if (profile != null && profile.isUseProfileTemplate()) {
+				Path profileDir = LaunchProfileUtility.prepareSessionDir(browserName, args,
+						template -> startFirefox(firefoxOptions(args, prefs, template)));
+				cloneMs = System.currentTimeMillis() - start;
+				start = System.currentTimeMillis();
+				driver.set(startFirefox(firefoxOptions(args, prefs, profileDir)));
 			} else {
-				driver.set(new FirefoxDriver());
+				driver.set(startFirefox(firefoxOptions(args, prefs, null)));
 			}
 		}
+		LaunchProfileUtility.recordLaunch(browserName, headless, cloneMs, System.currentTimeMillis() - start);
+	}
+
+	private ChromeOptions chromeOptions(List<String> args, Path userDataDir) {
+		ChromeOptions options = new ChromeOptions();
+		options.setPageLoadStrategy(getPageLoadStrategy());
+		options.addArguments(args);
+		// Console messages for the DOM snapshots of failed attempts (FailureArtifactUtility)
+		options.setCapability(ChromeOptions.LOGGING_PREFS, Map.of(LogType.BROWSER, "ALL"));
+		if (userDataDir != null) {
+			options.addArguments("--user-data-dir=" + userDataDir);
+		}
+		return options;
+	}
+
+	private FirefoxOptions firefoxOptions(List<String> args, Map<String, Object> prefs, Path profileDir) {
+		FirefoxOptions options = new FirefoxOptions();
+		options.setPageLoadStrategy(getPageLoadStrategy());
+		options.addArguments(args);
+		prefs.forEach(options::addPreference);
+		if (profileDir != null) {
+			options.addArguments("-profile", profileDir.toString());
+		}
+		return options;
+	}
+
+	// Shared long-lived driver services: per-session cost is the browser launch only
+	private WebDriver startChrome(ChromeOptions options) {
+		return DriverServiceManager.isEnabled() ? DriverServiceManager.newChromeSession(options)
+				: new ChromeDriver(options);
+	}
+
+	private WebDriver startFirefox(FirefoxOptions options) {
+		return DriverServiceManager.isEnabled() ? DriverServiceManager.newFirefoxSession(options)
+				: new FirefoxDriver(options);
 	}
 
 	/**
@@ -173,35 +293,45 @@ public abstract class BrowserUtility {
 		}
 	}
 
+	// Readiness contracts poll inside one async script: allow it to outlive timeOutSec
+	private void setupScriptTimeout() {
+		if (getDriver() != null) {
+			getDriver().manage().timeouts().scriptTimeout(Duration.ofSeconds(timeOutSec + 5L));
+		}
+	}
+
 	// ================================================================================
 	// INTERACTION METHODS (
 	// ================================================================================
 
 	public void clickOn(By locator) {
 		try {
-			logger.info("➡️  Trying to Clicking on: " + locator);
-			// 1. Wait for element to be present and scroll it into view
-			WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-			// 2. Scroll to element to ensure it's in the viewport (helps with 'intercepted'
-			// errors)
-			JavascriptExecutor js = (JavascriptExecutor) getDriver();
-			js.executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});", element);
-			// 3. Wait until it is actually clickable and perform standard click
-			element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-			element.click();
+			TraceUtility.span("click", "action").arg("locator", locator).run(() -> {
+				logger.info("➡️  Trying to Clicking on: " + locator);
+				// 1. Wait for element to be present and scroll it into view
+				WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+				// 2. Scroll to element to ensure it's in the viewport (helps with 'intercepted'
+				// errors)
+				JavascriptExecutor js = (JavascriptExecutor) getDriver();
+				js.executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});", element);
+				// 3. Wait until it is actually clickable (same element, no second lookup) and click
+				wait.until(ExpectedConditions.elementToBeClickable(element)).click();
+			});
 			logger.info("🎯 Clicked successfully✅: " + locator);
 
 		} catch (ElementClickInterceptedException e) {
 			// 4. POWER UP: Fallback for Headless/Overlay issues
 			logger.warn("⚠️  Click intercepted for " + locator + ". Retrying with JavaScript click...");
-			JavascriptExecutor js = (JavascriptExecutor) getDriver();
-			js.executeScript("arguments[0].click();", getDriver().findElement(locator));
+			TraceUtility.span("click-fallback", "action").arg("locator", locator).arg("fallback", "javascript")
+					.run(() -> ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();",
+							getDriver().findElement(locator)));
 			logger.info("🎯 Successfully clicked via JavaScript ✅.");
 
 		} catch (StaleElementReferenceException e) {
 			// 5. POWER UP: Handle elements that refresh suddenly
 			logger.warn("⚠️  Element became stale for " + locator + ". Re-finding and retrying...");
-			wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+			TraceUtility.span("click-fallback", "action").arg("locator", locator).arg("fallback", "re-find")
+					.run(() -> wait.until(ExpectedConditions.elementToBeClickable(locator)).click());
 			logger.info(" 🎯 Clicked successfully after re-finding element✅.");
 
 		} catch (Exception e) {
@@ -236,10 +366,12 @@ public abstract class BrowserUtility {
 
 	public void enterText(By locator, String textToEnter) {
 		try {
-			logger.info("➡️  Trying to Entering text '" + textToEnter + "' into: " + locator);
-			WebElement element = findElementWithHealing(locator);
-			element.clear();
-			element.sendKeys(textToEnter);
+			TraceUtility.span("type", "action").arg("locator", locator).run(() -> {
+				logger.info("➡️  Trying to Entering text '" + textToEnter + "' into: " + locator);
+				WebElement element = findElementWithHealing(locator);
+				element.clear();
+				element.sendKeys(textToEnter);
+			});
 			logger.info(" ✔ Text entered successfully ✅.");
 		} catch (Exception e) {
 			logger.error("❌ Failed to enter text into " + locator, e);
@@ -249,8 +381,8 @@ public abstract class BrowserUtility {
 
 	public String getVisibleText(By locator) {
 		try {
-			WebElement element = findElementWithHealing(locator);
-			String text = element.getText();
+			String text = TraceUtility.span("read-text", "action").arg("locator", locator)
+					.call(() -> findElementWithHealing(locator).getText());
 			logger.info("👁️  Read Text: '" + text + "' from " + locator);
 			return text;
 		} catch (Exception e) {
@@ -290,10 +422,12 @@ public abstract class BrowserUtility {
 		String path = folderPath + File.separator + name + "-" + timeStamp + ".png";
 
 		try {
-			TakesScreenshot screenshot = (TakesScreenshot) getDriver();
-			File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-			File destFile = new File(path);
-			FileUtils.copyFile(srcFile, destFile);
+			TraceUtility.span("screenshot", "artifact").arg("name", name).run(() -> {
+				TakesScreenshot screenshot = (TakesScreenshot) getDriver();
+				File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
+				File destFile = new File(path);
+				FileUtils.copyFile(srcFile, destFile);
+			});
 			return path;
 		} catch (Exception e) {
 			logger.error("❌ Critical Failure: Could not take screenshot. Browser might be unresponsive.", e);
@@ -320,10 +454,14 @@ public abstract class BrowserUtility {
 		// Using Log4j2 syntax {}
 		logger.debug("⏳ Waiting for element → {} (timeout: {}s)", locator, timeOutSec);
 
+		CommandAuditUtility.beforeWait(locator.toString());
 		try {
-			WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+			WebElement element = TraceUtility.span("wait-visible", "wait").arg("locator", locator)
+					.call(() -> wait.until(ExpectedConditions.visibilityOfElementLocated(locator)));
+			CommandAuditUtility.confirmed(locator.toString());
 
 			long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+			PerformanceBaselineUtility.addSample("wait", locator.toString(), elapsedMs);
 
 			// Log only if wait was "slow" (greater than 3 seconds)
 			if (elapsedMs > 3000) {
@@ -345,6 +483,38 @@ public abstract class BrowserUtility {
 		}
 	}
 
+	// ================================================================================
+	// 🚦 READINESS
+	// ================================================================================
+
+	/**
+	 * Evaluates this page's readiness contract (one browser round trip when the
+	 * page is already usable). Pages without a contract are considered ready.
+	 */
+	protected boolean awaitReadiness() {
+		ReadinessContract contract = readinessContract();
+		if (contract == null) {
+			return true;
+		}
+		String auditTarget = "readiness:" + getClass().getSimpleName();
+		CommandAuditUtility.beforeWait(auditTarget);
+		ReadinessContract.Result result;
+		try (TraceUtility.Span span = TraceUtility.span("readiness", "wait").arg("page", getClass().getSimpleName())) {
+			result = contract.evaluate(getDriver(), Duration.ofSeconds(timeOutSec));
+			span.arg("ready", result.ready());
+		}
+		if (result.ready()) {
+			CommandAuditUtility.confirmed(auditTarget);
+			CommandAuditUtility.confirmed(contract.getRequiredElements());
+			logger.info("🚦 " + getClass().getSimpleName() + " ready after " + result.waitedMs() + " ms");
+			capturePagePerformance();
+			return true;
+		}
+		logger.error("⏰ " + getClass().getSimpleName() + " not ready after " + result.waitedMs() + " ms → "
+				+ result.failed());
+		return false;
+	}
+
 	// ================================================================================
 	// UTILITIES & HELPERS
 	// ================================================================================
@@ -354,8 +524,19 @@ public abstract class BrowserUtility {
 
 	public void goToWebsite(String url) {
 		try {
-			logger.info("➡️  Navigating to URL: " + url);
-			driver.get().get(url);
+			TraceUtility.span("navigate", "navigation").arg("url", url).run(() -> {
+				logger.info("➡️  Navigating to URL: " + url);
+				driver.get().get(url);
+				// With eager/none strategies, get() returns early: wait for the page's own contract
+				if (getPageLoadStrategy() != PageLoadStrategy.NORMAL && readinessContract() != null) {
+					if (!awaitReadiness()) {
+						throw new TimeoutException("❌ " + getClass().getSimpleName() + " not ready after navigating to "
+								+ url);
+					}
+				} else {
+					capturePagePerformance();
+				}
+			});
 			// logger.info("✅ Navigated successfully."); // Optional: Keep it quiet unless
 			// error
 
@@ -369,6 +550,20 @@ public abstract class BrowserUtility {
 		}
 	}
 
+	/**
+	 * Records Navigation Timing + Web Vitals for this page object (once per
+	 * instance). Called after navigation and when a page confirms it is loaded.
+	 */
+	protected void capturePagePerformance() {
+		if (!performanceCaptured && getDriver() != null) {
+			performanceCaptured = true;
+			TraceUtility.span("page-performance", "metrics")
+					.run(() -> PagePerformanceCollector.capture(getDriver(), this.getClass()));
+			// -DlocatorAudit: cost of this page's locators vs faster equivalents (first load of each page class)
+			LocatorCostAnalyzer.analyzeOnce(getClass(), CommandAuditUtility.unwrap(getDriver()));
+		}
+	}
+
 	public void maximizeWindow() {
 		try {
 			driver.get().manage().window().maximize();
@@ -391,8 +586,16 @@ public abstract class BrowserUtility {
 
 	public void quitBrowser() {
 		if (driver.get() != null) {
-			driver.get().quit(); // Close Browser
+			ResourceSampler.unregister();
+			TraceUtility.span("quit", "lifecycle").run(() -> {
+				// Shared-browser contexts are closed, pooled remote sessions are reset and kept for the next test
+				if (!BrowserContextPool.release()
+						&& !RemoteSessionPool.release(CommandAuditUtility.unwrap(driver.get()))) {
+					driver.get().quit(); // Close Browser
+				}
+			});
 			driver.remove(); // Clean Driver Memory
+			LaunchProfileUtility.cleanupSessionDir(); // Drop the cloned profile of local launch profiles
 			threadEnv.remove(); // Clean Env Memory
 			logger.info("🛑 Session Closed & Resources Cleaned.");
 		}
@@ -0,0 +1,264 @@
+package com.utility;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import com.ui.annotations.PerformanceBudget;
+
+/**
+ * Counts every WebDriver command of a test (setup + body) and points out the
+ * avoidable round trips:
+ * <ul>
+ * <li>repeated lookup: a locator found again while nothing changed the page</li>
+ * <li>redundant wait: waiting for an element / page readiness that was already
+ * confirmed since the last page change</li>
+ * <li>redundant scroll: scrolling an element that was already scrolled to</li>
+ * </ul>
+ * "Page change" = navigation, click, typing, cookie deletion or a JS click.
+ *
+ * BrowserUtility wraps every driver with {@link #decorate(WebDriver)}; the
+ * findings land in the "command-audit" metrics (report table +
+ * reports/metrics/command-audit.json). -DcommandBudget (or
+ * {@code @PerformanceBudget(maxCommands = ...)}) fails tests that need more
+ * commands. Opt-in with -DcommandAudit=true; a -DcommandBudget turns it on
+ * too, {@code maxCommands} annotations only apply while it is on.
+ */
+public class CommandAuditUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(CommandAuditUtility.class);
+
+	public static final String CATEGORY = "command-audit";
+
+	private static final long COMMAND_BUDGET = Long.parseLong(System.getProperty("commandBudget", "0").trim());
+	private static final String AUDIT = System.getProperty("commandAudit", "").trim();
+	private static final boolean ENABLED = AUDIT.isEmpty() ? COMMAND_BUDGET > 0 : Boolean.parseBoolean(AUDIT);
+	private static final int TOP_OFFENDERS = 5;
+
+	// Proxy / accessor methods that never reach the browser
+	private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "timeouts", "window",
+			"getWrappedDriver", "getWrappedElement", "getDevTools", "maybeGetDevTools", "getCapabilities",
+			"getSessionId", "getCommandExecutor", "getId", "toString", "hashCode", "equals");
+	private static final Set<String> PAGE_CHANGES = Set.of("get", "to", "back", "forward", "refresh", "click",
+			"sendKeys", "clear", "submit", "deleteAllCookies", "deleteCookie", "deleteCookieNamed", "frame",
+			"defaultContent", "parentFrame", "newWindow", "close");
+
+	/** Commands and findings of the test running on this thread. */
+	private static final class Audit {
+		private final Map<String, Integer> commands = new LinkedHashMap<>();
+		private final Map<String, Integer> repeatedLookups = new LinkedHashMap<>();
+		private final Map<String, Integer> redundantWaits = new LinkedHashMap<>();
+		private final Map<String, Integer> redundantScrolls = new LinkedHashMap<>();
+		// What is known to be true since the last page change
+		private final Set<String> found = new HashSet<>();
+		private final Set<String> confirmed = new HashSet<>();
+		private final Set<String> scrolled = new HashSet<>();
+		private long total;
+
+		private void pageChanged() {
+			found.clear();
+			confirmed.clear();
+			scrolled.clear();
+		}
+	}
+
+	private static final ThreadLocal<Audit> audit = ThreadLocal.withInitial(Audit::new);
+
+	private CommandAuditUtility() {
+	}
+
+	/** Returns the driver wrapped with the auditing listener (the driver itself when disabled). */
+	public static WebDriver decorate(WebDriver driver) {
+		if (!ENABLED || driver == null) {
+			return driver;
+		}
+		return new EventFiringDecorator<>(new Auditor()).decorate(driver);
+	}
+
+	/** The real driver behind a decorated one (needed for class checks such as RemoteWebDriver). */
+	public static WebDriver unwrap(WebDriver driver) {
+		WebDriver current = driver;
+		while (current instanceof WrapsDriver wrapper && wrapper.getWrappedDriver() != current) {
+			current = wrapper.getWrappedDriver();
+		}
+		return current;
+	}
+
+	/** Starts counting for a new test on this thread (called by TestBase.setup). */
+	public static void reset() {
+		audit.remove();
+	}
+
+	/**
+	 * A wait for an element, or for a whole page ("readiness:LoginPage"), is
+	 * about to start. The wait still runs; it is only flagged.
+	 */
+	public static void beforeWait(String target) {
+		Audit current = audit.get();
+		if (ENABLED && current.confirmed.contains(target)) {
+			current.redundantWaits.merge(target, 1, Integer::sum);
+		}
+	}
+
+	/** Targets whose wait has succeeded; later waits for them are redundant until the page changes. */
+	public static void confirmed(String... targets) {
+		if (ENABLED) {
+			audit.get().confirmed.addAll(List.of(targets));
+		}
+	}
+
+	public static void confirmed(List<By> locators) {
+		locators.forEach(locator -> confirmed(locator.toString()));
+	}
+
+	/**
+	 * Records the audit of the finished test and checks it against the command
+	 * budget (-DcommandBudget, overridden by {@code @PerformanceBudget(maxCommands)}).
+	 *
+	 * @return the audit rows when the budget was exceeded, empty otherwise
+	 */
+	public static Optional<PerformanceBudgetExceededException> evaluate(Method testMethod) {
+		Audit current = audit.get();
+		audit.remove();
+		if (!ENABLED || current.total == 0) {
+			return Optional.empty();
+		}
+
+		long budget = COMMAND_BUDGET;
+		PerformanceBudget annotation = testMethod.getAnnotation(PerformanceBudget.class);
+		if (annotation != null && annotation.maxCommands() >= 0) {
+			budget = annotation.maxCommands();
+		}
+		boolean exceeded = budget > 0 && current.total > budget;
+
+		List<Map<String, Object>> rows = new ArrayList<>();
+		rows.add(row("round trips", "all commands", current.total,
+				budget > 0 ? (exceeded ? "❌ over budget of " + budget : "✅ budget " + budget) : ""));
+		addTop(rows, "command", current.commands);
+		addTop(rows, "repeated lookup", current.repeatedLookups);
+		addTop(rows, "redundant wait", current.redundantWaits);
+		addTop(rows, "redundant scroll", current.redundantScrolls);
+		rows.forEach(values -> MetricsUtility.record(CATEGORY, values));
+
+		int avoidable = sum(current.repeatedLookups) + sum(current.redundantWaits) + sum(current.redundantScrolls);
+		String summary = "🔁 " + testMethod.getName() + ": " + current.total + " WebDriver commands, " + avoidable
+				+ " avoidable (lookups: " + sum(current.repeatedLookups) + ", waits: " + sum(current.redundantWaits)
+				+ ", scrolls: " + sum(current.redundantScrolls) + ")";
+		if (avoidable > 0) {
+			logger.warn(summary);
+		} else {
+			logger.info(summary);
+		}
+
+		if (!exceeded) {
+			return Optional.empty();
+		}
+		String message = "🔁 Command budget exceeded: " + current.total + " WebDriver commands > " + budget;
+		logger.error(message);
+		return Optional.of(new PerformanceBudgetExceededException(message, rows));
+	}
+
+	private static void addTop(List<Map<String, Object>> rows, String finding, Map<String, Integer> counts) {
+		counts.entrySet().stream().sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+				.limit(TOP_OFFENDERS).forEach(entry -> rows.add(row(finding, entry.getKey(), entry.getValue(), "")));
+	}
+
+	private static Map<String, Object> row(String finding, String target, long count, String note) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("finding", finding);
+		row.put("target", target);
+		row.put("count", count);
+		row.put("note", note);
+		return row;
+	}
+
+	private static int sum(Map<String, Integer> counts) {
+		return counts.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	private static Object unwrap(Object element) {
+		return element instanceof WrapsElement wrapper ? wrapper.getWrappedElement() : element;
+	}
+
+	/**
+	 * Listener attached to each decorated driver; state is per thread, like the
+	 * driver. Public only because EventFiringDecorator invokes it reflectively.
+	 */
+	public static final class Auditor implements WebDriverListener {
+
+		private Auditor() {
+		}
+
+		@Override
+		public void beforeAnyCall(Object target, Method method, Object[] args) {
+			String name = method.getName();
+			if (LOCAL_CALLS.contains(name)) {
+				return;
+			}
+			Audit current = audit.get();
+			current.total++;
+			current.commands.merge(name, 1, Integer::sum);
+			if (PAGE_CHANGES.contains(name)) {
+				current.pageChanged();
+			}
+		}
+
+		@Override
+		public void beforeFindElement(WebDriver driver, By locator) {
+			checkLookup(locator);
+		}
+
+		@Override
+		public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+			audit.get().found.add(locator.toString());
+		}
+
+		@Override
+		public void beforeFindElement(WebElement element, By locator) {
+			checkLookup(locator);
+		}
+
+		@Override
+		public void afterFindElement(WebElement element, By locator, WebElement result) {
+			audit.get().found.add(locator.toString());
+		}
+
+		@Override
+		public void beforeExecuteScript(WebDriver driver, String script, Object[] args) {
+			Audit current = audit.get();
+			if (script.contains(".click()")) {
+				current.pageChanged();
+			} else if (script.contains("scrollIntoView") && args.length > 0 && args[0] instanceof WebElement element) {
+				Object real = unwrap(element);
+				String key = real instanceof RemoteWebElement remote ? remote.getId() : String.valueOf(real);
+				if (!current.scrolled.add(key)) {
+					current.redundantScrolls.merge(String.valueOf(real), 1, Integer::sum);
+				}
+			}
+		}
+
+		// Failed polls of a wait (no afterFindElement) are not lookups of a known element
+		private void checkLookup(By locator) {
+			Audit current = audit.get();
+			if (current.found.contains(locator.toString())) {
+				current.repeatedLookups.merge(locator.toString(), 1, Integer::sum);
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.utility;
+
+import java.io.IOException;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Lets several test threads share one browser session, each in its own
+ * window (BiDi browsing context).
+ *
+ * Classic WebDriver commands always act on the session's "current window",
+ * so every command is sent under a session lock, preceded by a switch to the
+ * calling thread's window when another thread used the session last.
+ * Threads without a bound window (session creation, quit) pass straight
+ * through.
+ */
+public class ContextRoutingExecutor implements CommandExecutor {
+
+	private final CommandExecutor delegate;
+	private final ThreadLocal<String> threadWindow = new ThreadLocal<>();
+	private String currentWindow; // guarded by this
+
+	private long switches;
+
+	public ContextRoutingExecutor(CommandExecutor delegate) {
+		this.delegate = delegate;
+	}
+
+	/** Routes the calling thread's commands to the given window handle. */
+	public void bind(String windowHandle) {
+		threadWindow.set(windowHandle);
+	}
+
+	public synchronized void unbind() {
+		if (threadWindow.get() != null && threadWindow.get().equals(currentWindow)) {
+			currentWindow = null;
+		}
+		threadWindow.remove();
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		String window = threadWindow.get();
+		if (window == null || DriverCommand.NEW_SESSION.equals(command.getName())) {
+			return delegate.execute(command);
+		}
+		synchronized (this) {
+			if (!window.equals(currentWindow)) {
+				delegate.execute(new Command(command.getSessionId(), DriverCommand.SWITCH_TO_WINDOW(window)));
+				currentWindow = window;
+				switches++;
+			}
+			Response response = delegate.execute(command);
+			if (DriverCommand.SWITCH_TO_WINDOW.equals(command.getName())
+					&& command.getParameters().get("handle") instanceof String handle) {
+				// The test switched windows itself (e.g. a popup): follow it
+				threadWindow.set(handle);
+				currentWindow = handle;
+			}
+			return response;
+		}
+	}
+
+	/** Window switches inserted so far (the routing overhead). */
+	public synchronized long getSwitchCount() {
+		return switches;
+	}
+}
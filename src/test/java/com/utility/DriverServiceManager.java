@@ -0,0 +1,408 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.AddHasCasting;
+import org.openqa.selenium.chrome.AddHasCdp;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumDriverCommandExecutor;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import com.constants.Browser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Long-lived driver services shared by all local sessions of the JVM.
+ *
+ * CHROME: one chromedriver process, started lazily, serves every session
+ * (chromedriver handles concurrent sessions). Sessions talk to it through a
+ * plain HTTP executor, so quitting a session does NOT stop the service.
+ *
+ * FIREFOX: geckodriver allows a single session per process, so idle
+ * geckodriver services are pooled and handed to the next session instead of
+ * starting a new process each time.
+ *
+ * The driver (and browser) paths resolved by Selenium Manager are cached in
+ * history/driver-paths.json, so later runs skip the resolution; when a cached
+ * driver cannot create a session (browser updated), it is dropped and resolved
+ * again once. A service that died is restarted on the next session request.
+ * Disable with -DsharedDriverService=false.
+ */
+public class DriverServiceManager {
+
+	private static final Logger logger = LoggerUtility.getLogger(DriverServiceManager.class);
+
+	private static final String PATH_CACHE_FILE = "history" + File.separator + "driver-paths.json";
+	private static final String DRIVER_PATH = "driverPath";
+	private static final String BROWSER_PATH = "browserPath";
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final Map<String, Map<String, String>> resolvedPaths = loadPathCache();
+	private static final HttpClient healthClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2))
+			.build();
+
+	private static volatile DriverService chromeService;
+	private static volatile Map<String, CommandInfo> chromeCommands;
+	private static final Deque<GeckoDriverService> idleGeckoServices = new ConcurrentLinkedDeque<>();
+	private static final Set<String> fromCache = ConcurrentHashMap.newKeySet(); // running drivers from the cache
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(DriverServiceManager::shutdown, "driver-service-shutdown"));
+	}
+
+	private DriverServiceManager() {
+	}
+
+	public static boolean isEnabled() {
+		return Boolean.parseBoolean(System.getProperty("sharedDriverService", "true"));
+	}
+
+	/** Resolves the driver binary and starts a driver service ahead of the first session (SuiteBootstrap). */
+	public static void prewarm(Browser browser) {
+		if (browser == Browser.FIREFOX) {
+			idleGeckoServices.addLast(leaseGeckoService());
+		} else {
+			chromeService();
+		}
+	}
+
+	// ================================================================================
+	// CHROME
+	// ================================================================================
+
+	public static WebDriver newChromeSession(ChromeOptions options) {
+		return newChromeSession(options, UnaryOperator.identity());
+	}
+
+	/**
+	 * Same, with the session's HTTP executor wrapped (e.g. by
+	 * ContextRoutingExecutor for browsers shared through BrowserContextPool).
+	 */
+	public static WebDriver newChromeSession(ChromeOptions options, UnaryOperator<CommandExecutor> executorWrapper) {
+		applyCachedBrowserPath("chrome", options);
+		DriverService service = chromeService();
+		try {
+			return new SharedServiceChromeDriver(
+					executorWrapper.apply(new HttpCommandExecutor(chromeCommands(), service.getUrl())), options);
+		} catch (SessionNotCreatedException e) {
+			// A cached driver that no longer matches the browser (browser updated): resolve it again, once
+			if (!dropCachedDriverPath("chrome", service)) {
+				throw e;
+			}
+			return new SharedServiceChromeDriver(
+					executorWrapper.apply(new HttpCommandExecutor(chromeCommands(), chromeService().getUrl())), options);
+		} catch (WebDriverException e) {
+			if (isHealthy(service)) {
+				throw e;
+			}
+			logger.warn("⚠️ Shared chromedriver died while creating a session. Restarting it...");
+			restartChromeService(service);
+			return new SharedServiceChromeDriver(
+					executorWrapper.apply(new HttpCommandExecutor(chromeCommands(), chromeService().getUrl())), options);
+		}
+	}
+
+	/**
+	 * A Chrome session created through another endpoint that fronts a
+	 * chromedriver (the local BrowserDaemon): same driver class, no local service.
+	 * {@code filter} decorates every request (e.g. adds the endpoint's auth header).
+	 */
+	public static WebDriver newChromeSession(ChromeOptions options, URL endpoint, Filter filter) {
+		return new SharedServiceChromeDriver(
+				new HttpCommandExecutor(chromeCommands(), endpoint, ClientConfig.defaultConfig().withFilter(filter)),
+				options);
+	}
+
+	/** URL of the shared chromedriver, started if needed. */
+	public static URL chromeServiceUrl() {
+		return chromeService().getUrl();
+	}
+
+	private static Map<String, CommandInfo> chromeCommands() {
+		if (chromeCommands == null) {
+			synchronized (DriverServiceManager.class) {
+				if (chromeCommands == null) {
+					// Command table only: the service is never started
+					chromeCommands = new ChromiumDriverCommandExecutor(ChromeDriverService.createDefaultService(),
+							chromeExtraCommands(), ClientConfig.defaultConfig()).getAdditionalCommands();
+				}
+			}
+		}
+		return chromeCommands;
+	}
+
+	// Parallel sessions only contend when the service has to be (re)started; health is probed after a failure
+	private static DriverService chromeService() {
+		DriverService service = chromeService;
+		if (service != null && service.isRunning()) {
+			return service;
+		}
+		synchronized (DriverServiceManager.class) {
+			if (chromeService != null && !chromeService.isRunning()) {
+				logger.warn("⚠️ Shared chromedriver is not running. Restarting it...");
+				chromeService.stop();
+				chromeService = null;
+			}
+			if (chromeService == null) {
+				long start = System.currentTimeMillis();
+				try {
+					String driverPath = resolveDriverPath("chrome", ChromeDriverService.createDefaultService(),
+							new ChromeOptions());
+					ChromeDriverService started = new ChromeDriverService.Builder()
+							.usingDriverExecutable(new File(driverPath)).usingAnyFreePort().build();
+					started.start();
+					chromeService = started;
+					logger.info("🚀 Shared chromedriver started in " + (System.currentTimeMillis() - start) + " ms → "
+							+ started.getUrl());
+				} catch (IOException e) {
+					throw new RuntimeException("❌ Failed to start shared chromedriver", e);
+				}
+			}
+			return chromeService;
+		}
+	}
+
+	private static synchronized void restartChromeService(DriverService deadService) {
+		if (chromeService == deadService) {
+			deadService.stop();
+			chromeService = null;
+		}
+	}
+
+	private static Map<String, CommandInfo> chromeExtraCommands() {
+		Map<String, CommandInfo> commands = new HashMap<>();
+		Stream.of(new AddHasCasting().getAdditionalCommands(), new AddHasCdp().getAdditionalCommands())
+				.forEach(commands::putAll);
+		return commands;
+	}
+
+	/**
+	 * A ChromiumDriver (CDP, network conditions, ...) bound to the shared service
+	 * through a plain HTTP executor: quit() ends the session only.
+	 */
+	private static final class SharedServiceChromeDriver extends ChromiumDriver {
+		private SharedServiceChromeDriver(CommandExecutor executor, ChromeOptions options) {
+			super(executor, options, ChromeOptions.CAPABILITY);
+		}
+	}
+
+	// ================================================================================
+	// FIREFOX
+	// ================================================================================
+
+	public static WebDriver newFirefoxSession(FirefoxOptions options) {
+		applyCachedBrowserPath("firefox", options);
+		GeckoDriverService service = leaseGeckoService();
+		try {
+			return new PooledServiceFirefoxDriver(service, options);
+		} catch (SessionNotCreatedException e) {
+			service.stop();
+			if (!dropCachedDriverPath("firefox", null)) {
+				throw e;
+			}
+			GeckoDriverService retry = leaseGeckoService();
+			try {
+				return new PooledServiceFirefoxDriver(retry, options);
+			} catch (WebDriverException retryError) {
+				retry.stop();
+				throw retryError;
+			}
+		} catch (WebDriverException e) {
+			service.stop();
+			throw e;
+		}
+	}
+
+	private static GeckoDriverService leaseGeckoService() {
+		GeckoDriverService service;
+		while ((service = idleGeckoServices.pollFirst()) != null) {
+			if (isHealthy(service)) {
+				return service;
+			}
+			service.stop();
+		}
+		long start = System.currentTimeMillis();
+		try {
+			String driverPath = resolveDriverPath("firefox", GeckoDriverService.createDefaultService(),
+					new FirefoxOptions());
+			service = new GeckoDriverService.Builder().usingDriverExecutable(new File(driverPath)).usingAnyFreePort()
+					.build();
+			service.start();
+			logger.info("🚀 geckodriver started in " + (System.currentTimeMillis() - start) + " ms → " + service.getUrl());
+			return service;
+		} catch (IOException e) {
+			throw new RuntimeException("❌ Failed to start geckodriver", e);
+		}
+	}
+
+	/** Returns the geckodriver process to the pool when its session ends. */
+	private static final class PooledServiceFirefoxDriver extends RemoteWebDriver {
+		private final GeckoDriverService service;
+
+		private PooledServiceFirefoxDriver(GeckoDriverService service, FirefoxOptions options) {
+			super(service.getUrl(), options);
+			this.service = service;
+		}
+
+		@Override
+		public void quit() {
+			try {
+				super.quit();
+				idleGeckoServices.addLast(service);
+			} catch (RuntimeException e) {
+				service.stop();
+				throw e;
+			}
+		}
+	}
+
+	// ================================================================================
+	// PATH CACHE & HEALTH
+	// ================================================================================
+
+	private static String resolveDriverPath(String browser, DriverService defaultService, Capabilities options) {
+		Map<String, String> cached = resolvedPaths.get(browser);
+		if (cached != null && cached.get(DRIVER_PATH) != null && new File(cached.get(DRIVER_PATH)).canExecute()) {
+			logger.info("🗂️  Using cached " + browser + " driver path: " + cached.get(DRIVER_PATH));
+			fromCache.add(browser);
+			return cached.get(DRIVER_PATH);
+		}
+		long start = System.currentTimeMillis();
+		DriverFinder finder = new DriverFinder(defaultService, options);
+		Map<String, String> paths = new HashMap<>();
+		paths.put(DRIVER_PATH, finder.getDriverPath());
+		if (finder.hasBrowserPath()) {
+			paths.put(BROWSER_PATH, finder.getBrowserPath());
+		}
+		resolvedPaths.put(browser, paths);
+		fromCache.remove(browser);
+		savePathCache();
+		logger.info("🔎 Resolved " + browser + " driver in " + (System.currentTimeMillis() - start) + " ms: "
+				+ paths.get(DRIVER_PATH));
+		return paths.get(DRIVER_PATH);
+	}
+
+	/**
+	 * Forgets the cached paths of a browser whose session could not be created
+	 * with the cached driver, and drops the services started from it.
+	 *
+	 * @return true when the caller should retry once (driver re-resolved)
+	 */
+	private static synchronized boolean dropCachedDriverPath(String browser, DriverService failedService) {
+		if (failedService != null && chromeService != failedService) {
+			return true; // another session already restarted the service
+		}
+		if (!fromCache.remove(browser)) {
+			return false; // freshly resolved driver: a real incompatibility
+		}
+		logger.warn("⚠️ Cached " + browser + " driver " + resolvedPaths.get(browser).get(DRIVER_PATH)
+				+ " could not create a session (browser updated?). Resolving it again...");
+		resolvedPaths.remove(browser);
+		savePathCache();
+		if (failedService != null) {
+			restartChromeService(failedService);
+		} else {
+			GeckoDriverService idle;
+			while ((idle = idleGeckoServices.pollFirst()) != null) {
+				idle.stop();
+			}
+		}
+		return true;
+	}
+
+	private static void applyCachedBrowserPath(String browser, Capabilities options) {
+		Map<String, String> cached = resolvedPaths.get(browser);
+		String browserPath = cached == null ? null : cached.get(BROWSER_PATH);
+		if (browserPath == null || !new File(browserPath).canExecute()) {
+			return;
+		}
+		if (options instanceof ChromeOptions chromeOptions) {
+			chromeOptions.setBinary(browserPath);
+		} else if (options instanceof FirefoxOptions firefoxOptions) {
+			firefoxOptions.setBinary(browserPath);
+		}
+	}
+
+	private static boolean isHealthy(DriverService service) {
+		if (!service.isRunning()) {
+			return false;
+		}
+		try {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(service.getUrl() + "/status"))
+					.timeout(Duration.ofSeconds(2)).GET().build();
+			return healthClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+		} catch (IOException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	public static synchronized void shutdown() {
+		if (chromeService != null) {
+			chromeService.stop();
+			chromeService = null;
+		}
+		GeckoDriverService service;
+		while ((service = idleGeckoServices.pollFirst()) != null) {
+			service.stop();
+		}
+	}
+
+	private static synchronized void savePathCache() {
+		File file = new File(System.getProperty("user.dir") + File.separator + PATH_CACHE_FILE);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, resolvedPaths);
+		} catch (IOException e) {
+			logger.warn("⚠️ Could not save driver path cache. Cause: " + e.getMessage());
+		}
+	}
+
+	private static Map<String, Map<String, String>> loadPathCache() {
+		Map<String, Map<String, String>> paths = new ConcurrentHashMap<>();
+		File file = new File(System.getProperty("user.dir") + File.separator + PATH_CACHE_FILE);
+		if (file.exists()) {
+			try {
+				paths.putAll(mapper.readValue(file, new TypeReference<Map<String, Map<String, String>>>() {
+				}));
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read driver path cache. Cause: " + e.getMessage());
+			}
+		}
+		return paths;
+	}
+}
@@ -0,0 +1,286 @@
+package com.utility;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import javax.net.ssl.SSLException;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Fails the suite fast when the target environment is down (opt-in: -DcircuitBreaker=true).
+ *
+ * At suite start every environment is probed over plain HTTP, in parallel;
+ * one that does not answer (or answers 5xx) starts OPEN. During the run, N
+ * consecutive infrastructure failures (connection / DNS / TLS errors, page
+ * load timeouts) within the window open the circuit of their environment.
+ * While open, tests of that environment are skipped before a browser is
+ * launched and are not retried. After the cooldown the next test triggers one
+ * HTTP probe (HALF_OPEN): success closes the circuit, failure re-opens it.
+ */
+public class EnvironmentCircuitBreaker {
+
+	private static final Logger logger = LoggerUtility.getLogger(EnvironmentCircuitBreaker.class);
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("circuitBreaker", "false"));
+	private static final int THRESHOLD = Integer.parseInt(System.getProperty("breakerThreshold", "3").trim());
+	private static final long WINDOW_MS = Long.parseLong(System.getProperty("breakerWindowSec", "120").trim()) * 1000;
+	private static final long COOLDOWN_MS = Long.parseLong(System.getProperty("breakerCooldownSec", "30").trim())
+			* 1000;
+	private static final Duration PROBE_TIMEOUT = Duration
+			.ofSeconds(Long.parseLong(System.getProperty("preflightTimeoutSec", "10").trim()));
+
+	// Browser-reported network errors (Chrome "net::ERR_...", Firefox "about:neterror")
+	private static final Pattern NETWORK_ERROR = Pattern
+			.compile("net::ERR_|about:neterror|NS_ERROR_(NET|UNKNOWN_HOST|CONNECTION)");
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final class Circuit {
+		private final String env;
+		private State state = State.CLOSED;
+		private final Deque<Long> failures = new ArrayDeque<>(); // consecutive infrastructure failures
+		private long openedAt;
+		private String reason;
+		private int trips;
+		private int skipped;
+
+		private Circuit(String env) {
+			this.env = env;
+		}
+	}
+
+	private static final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+	private static final ThreadLocal<String> currentEnv = new ThreadLocal<>();
+
+	private static final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(PROBE_TIMEOUT)
+			.followRedirects(HttpClient.Redirect.NORMAL).build();
+
+	private EnvironmentCircuitBreaker() {
+	}
+
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	// ================================================================================
+	// PREFLIGHT
+	// ================================================================================
+
+	/** Probes all environments in parallel; the ones that are down start with an open circuit. */
+	public static void preflight(Collection<String> envs) {
+		if (!ENABLED || envs.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		Map<String, CompletableFuture<Optional<String>>> probes = new LinkedHashMap<>();
+		for (String env : envs) {
+			probes.put(env.toUpperCase(), probe(env.toUpperCase()));
+		}
+		CompletableFuture.allOf(probes.values().toArray(CompletableFuture[]::new)).join();
+		probes.forEach((env, probe) -> {
+			Optional<String> failure = probe.join();
+			if (failure.isPresent()) {
+				Circuit circuit = circuit(env);
+				synchronized (circuit) {
+					open(circuit, "preflight failed: " + failure.get());
+				}
+			} else {
+				logger.info("🩺 Preflight " + env + ": reachable");
+			}
+		});
+		logger.info("🩺 Preflight of " + probes.size() + " environment(s) took " + (System.currentTimeMillis() - start)
+				+ " ms");
+	}
+
+	// Empty when the environment answers below 500; otherwise what went wrong
+	private static CompletableFuture<Optional<String>> probe(String env) {
+		String url;
+		try {
+			url = JsonConfigUtility.getEnvData(env).getUrl();
+		} catch (RuntimeException e) {
+			return CompletableFuture.completedFuture(Optional.of("no configuration for " + env));
+		}
+		if (url == null || url.isBlank()) {
+			return CompletableFuture.completedFuture(Optional.of("no URL configured for " + env));
+		}
+		url = HttpArchiveUtility.resolveUrl(env, url); // replay mode: the local fixture server
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(PROBE_TIMEOUT).GET().build();
+		String target = url;
+		return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.thenApply(response -> response.statusCode() >= 500
+						? Optional.of("HTTP " + response.statusCode() + " from " + target)
+						: Optional.<String>empty())
+				.exceptionally(e -> Optional.of(describe(e.getCause() != null ? e.getCause() : e) + " (" + target + ")"));
+	}
+
+	// ================================================================================
+	// DURING THE RUN
+	// ================================================================================
+
+	/**
+	 * Called before a test launches its browser.
+	 *
+	 * @return the skip reason when the environment's circuit is open
+	 */
+	public static Optional<String> admit(String env) {
+		if (!ENABLED) {
+			return Optional.empty();
+		}
+		env = env.toUpperCase();
+		currentEnv.set(env);
+		Circuit circuit = circuit(env);
+		synchronized (circuit) {
+			if (circuit.state == State.OPEN && System.currentTimeMillis() - circuit.openedAt >= COOLDOWN_MS) {
+				// Half-open: one probe; tests arriving meanwhile wait for its verdict
+				circuit.state = State.HALF_OPEN;
+				logger.info("🔌 Circuit " + env + " half-open: probing...");
+				Optional<String> failure = probe(env).join();
+				if (failure.isPresent()) {
+					open(circuit, "half-open probe failed: " + failure.get());
+				} else {
+					circuit.state = State.CLOSED;
+					circuit.failures.clear();
+					logger.info("✅ Circuit " + env + " closed: environment is reachable again");
+				}
+			}
+			if (circuit.state == State.OPEN) {
+				circuit.skipped++;
+				return Optional.of("⛔ Environment " + env + " is unavailable (circuit open: " + circuit.reason
+						+ "). Skipped without launching a browser.");
+			}
+			return Optional.empty();
+		}
+	}
+
+	/** Outcome of a test (or its setup) on this thread: null for a success. */
+	public static void recordOutcome(Throwable error) {
+		String env = currentEnv.get();
+		if (!ENABLED || env == null) {
+			return;
+		}
+		Circuit circuit = circuit(env);
+		synchronized (circuit) {
+			if (error == null || !isInfrastructureFailure(error)) {
+				circuit.failures.clear(); // the environment answered: the streak is broken
+				return;
+			}
+			if (circuit.state != State.CLOSED) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			circuit.failures.addLast(now);
+			while (now - circuit.failures.peekFirst() > WINDOW_MS) {
+				circuit.failures.removeFirst();
+			}
+			if (circuit.failures.size() >= THRESHOLD) {
+				open(circuit, circuit.failures.size() + " consecutive infrastructure failures in "
+						+ WINDOW_MS / 1000 + "s, last: " + describe(error));
+			}
+		}
+	}
+
+	/** True when the calling thread's environment is currently open (no retries then). */
+	public static boolean isOpen() {
+		String env = currentEnv.get();
+		if (!ENABLED || env == null) {
+			return false;
+		}
+		Circuit circuit = circuit(env);
+		synchronized (circuit) {
+			return circuit.state != State.CLOSED;
+		}
+	}
+
+	/**
+	 * Connection / DNS / TLS errors and page-load timeouts, anywhere in the cause
+	 * chain. Element waits (WebDriverWait) time out the same way but say nothing
+	 * about the environment: only timeouts raised while navigating count.
+	 */
+	public static boolean isInfrastructureFailure(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConnectException || cause instanceof UnknownHostException
+					|| cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException
+					|| cause instanceof SSLException) {
+				return true;
+			}
+			if (cause instanceof TimeoutException && isNavigationTimeout(cause)) {
+				return true;
+			}
+			if (cause instanceof WebDriverException && cause.getMessage() != null
+					&& NETWORK_ERROR.matcher(cause.getMessage()).find()) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	// Page load (driver.get) or the page's readiness contract, both raised inside goToWebsite
+	private static boolean isNavigationTimeout(Throwable timeout) {
+		for (StackTraceElement frame : timeout.getStackTrace()) {
+			if (frame.getMethodName().equals("goToWebsite")
+					&& frame.getClassName().equals(BrowserUtility.class.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Logs trips and skipped tests per environment (end of suite). */
+	public static void logSummary() {
+		circuits.values().forEach(circuit -> {
+			synchronized (circuit) {
+				if (circuit.trips > 0) {
+					logger.warn("🔌 Circuit " + circuit.env + ": opened " + circuit.trips + " time(s), "
+							+ circuit.skipped + " test(s) skipped, now " + circuit.state);
+				}
+			}
+		});
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static Circuit circuit(String env) {
+		return circuits.computeIfAbsent(env, Circuit::new);
+	}
+
+	// Caller holds the circuit's lock
+	private static void open(Circuit circuit, String reason) {
+		circuit.state = State.OPEN;
+		circuit.openedAt = System.currentTimeMillis();
+		circuit.reason = reason;
+		circuit.trips++;
+		circuit.failures.clear();
+		logger.error("🔌⛔ Circuit " + circuit.env + " OPEN for " + COOLDOWN_MS / 1000 + "s: " + reason);
+	}
+
+	private static String describe(Throwable error) {
+		String message = error.getMessage() == null ? "" : error.getMessage().lines().findFirst().orElse("");
+		return error.getClass().getSimpleName() + (message.isEmpty() ? "" : ": " + message);
+	}
+}
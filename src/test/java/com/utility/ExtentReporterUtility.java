@@ -57,8 +57,13 @@ public class ExtentReporterUtility {
 	 * 
 	 * @param reportFileName The name of the HTML file (e.g., "TestReport.html")
 	 */
-	public static void setupSparkReporter(String reportFileName) {
+	public static synchronized void setupSparkReporter(String reportFileName) {
 		if (extentReports == null) {
+			extentReports = new ExtentReports();
+			// Huge suites: keep only the sharded report (ShardedReportUtility) with -DsparkReport=false
+			if (!Boolean.parseBoolean(System.getProperty("sparkReport", "true"))) {
+				return;
+			}
 
 			// 2. Use File.separator for OS Compatibility (Windows vs Linux)
 			String reportPath = System.getProperty("user.dir") + File.separator + REPORT_FOLDER + File.separator
@@ -72,14 +77,15 @@ public class ExtentReporterUtility {
 			spark.config().setReportName(REPORT_NAME);
 			spark.config().setTimeStampFormat("MMM dd, yyyy HH:mm:ss");
 
-			extentReports = new ExtentReports();
 			extentReports.attachReporter(spark);
 
 			// 4. Clean System Info Injection
 			extentReports.setSystemInfo("OS", System.getProperty("os.name"));
 			extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
 			extentReports.setSystemInfo("User", System.getProperty("user.name"));
-			extentReports.setSystemInfo("Environment", System.getProperty("env", "QA"));
+			extentReports.setSystemInfo("Environment", System.getProperty("envs", "").isBlank()
+					? System.getProperty("ENV", System.getProperty("env", "QA"))
+					: System.getProperty("envs"));
 		}
 	}
 
@@ -0,0 +1,219 @@
+package com.utility;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Decides what to capture when a test attempt fails (-DartifactPolicy):
+ * <ul>
+ * <li>final: a screenshot for the final attempt only (the one in the report)</li>
+ * <li>dom-then-final (default): earlier attempts that will be retried get a
+ * cheap gzipped DOM snapshot + console / network log, the final attempt a
+ * screenshot</li>
+ * <li>always: a screenshot for every attempt (the old behaviour)</li>
+ * </ul>
+ * -DartifactSampling sets capture rates per failure class
+ * ("TimeoutException=0.5,PerformanceBudgetExceededException=0,*=1"), and
+ * -DartifactBudgetMb caps the bytes written per run (0 = unlimited).
+ *
+ * The browser is read on the test thread (before teardown quits it);
+ * compressing and writing DOM snapshots happens on a background thread,
+ * drained by {@link #awaitPending()} at the end of the suite.
+ */
+public class FailureArtifactUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(FailureArtifactUtility.class);
+
+	private static final String ARTIFACTS_FOLDER = "artifacts";
+
+	private enum Policy {
+		FINAL, DOM_THEN_FINAL, ALWAYS
+	}
+
+	private static final Policy POLICY = Policy
+			.valueOf(System.getProperty("artifactPolicy", "dom-then-final").trim().toUpperCase().replace('-', '_'));
+	private static final Map<String, Double> SAMPLING = parseSampling(System.getProperty("artifactSampling", ""));
+	private static final long BUDGET_BYTES = Long.parseLong(System.getProperty("artifactBudgetMb", "200").trim())
+			* 1024 * 1024;
+
+	// One script: DOM + resource timings, instead of a screenshot round trip and its file I/O
+	private static final String SNAPSHOT_SCRIPT = """
+			return {
+			  url: location.href,
+			  title: document.title,
+			  html: document.documentElement ? document.documentElement.outerHTML : '',
+			  resources: performance.getEntriesByType('resource').map(function (r) {
+			    return { name: r.name, type: r.initiatorType, durationMs: Math.round(r.duration),
+			             transferSize: r.transferSize || 0, status: r.responseStatus || 0 };
+			  })
+			};
+			""";
+
+	/** What was captured for a failed attempt (null = not captured). */
+	public record Artifacts(String screenshot, String domSnapshot) {
+	}
+
+	private static final Artifacts NONE = new Artifacts(null, null);
+
+	private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "artifact-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private static final AtomicLong bytesWritten = new AtomicLong();
+	private static final AtomicInteger screenshots = new AtomicInteger();
+	private static final AtomicInteger domSnapshots = new AtomicInteger();
+	private static final AtomicInteger skipped = new AtomicInteger();
+
+	private FailureArtifactUtility() {
+	}
+
+	/**
+	 * Captures the artifacts the policy asks for.
+	 *
+	 * @param finalAttempt false when the retry analyzer will run the test again
+	 */
+	public static Artifacts capture(String testName, Throwable failure, boolean finalAttempt, BrowserUtility browser) {
+		if (browser == null || browser.getDriver() == null) {
+			return NONE;
+		}
+		String failureClass = failure == null ? "Unknown" : failure.getClass().getSimpleName();
+		if (!sampled(failureClass)) {
+			logger.info("🎲 Artifacts not sampled for " + testName + " [" + failureClass + "]");
+			skipped.incrementAndGet();
+			return NONE;
+		}
+		if (BUDGET_BYTES > 0 && bytesWritten.get() >= BUDGET_BYTES) {
+			logger.warn("💾 Artifact budget of " + BUDGET_BYTES / (1024 * 1024) + " MB used up: nothing captured for "
+					+ testName);
+			skipped.incrementAndGet();
+			return NONE;
+		}
+
+		if (finalAttempt || POLICY == Policy.ALWAYS) {
+			logger.info("📸 Attempting to capture screenshot...");
+			String path = browser.takeScreenShot(testName);
+			if (path != null) {
+				bytesWritten.addAndGet(new File(path).length());
+				screenshots.incrementAndGet();
+			}
+			return new Artifacts(path, null);
+		}
+		if (POLICY == Policy.DOM_THEN_FINAL) {
+			return new Artifacts(null, snapshotDom(testName, failureClass, browser.getDriver()));
+		}
+		return NONE;
+	}
+
+	/** Waits for background writes, then logs what this run captured. */
+	public static void awaitPending() {
+		Future<?> write;
+		while ((write = pending.poll()) != null) {
+			try {
+				write.get();
+			} catch (Exception e) {
+				logger.warn("⚠️ Artifact write failed. Cause: " + e.getMessage());
+			}
+		}
+		if (screenshots.get() + domSnapshots.get() + skipped.get() > 0) {
+			logger.info("🗂️ Failure artifacts [" + POLICY.name().toLowerCase().replace('_', '-') + "]: "
+					+ screenshots.get() + " screenshot(s), " + domSnapshots.get() + " DOM snapshot(s), "
+					+ bytesWritten.get() / 1024 + " KB, " + skipped.get() + " skipped (sampling / budget)");
+		}
+	}
+
+	private static String snapshotDom(String testName, String failureClass, WebDriver driver) {
+		Map<String, Object> snapshot = new LinkedHashMap<>();
+		try {
+			TraceUtility.span("dom-snapshot", "artifact").arg("name", testName).run(() -> {
+				Object page = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+				if (page instanceof Map<?, ?> values) {
+					values.forEach((key, value) -> snapshot.put(String.valueOf(key), value));
+				}
+				snapshot.put("console", consoleLog(driver));
+			});
+		} catch (WebDriverException e) {
+			logger.error("❌ Could not read the DOM for " + testName + ". Browser might be unresponsive.", e);
+			return null;
+		}
+		snapshot.put("test", testName);
+		snapshot.put("failure", failureClass);
+
+		String timeStamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+		File file = new File(System.getProperty("user.dir") + File.separator + ARTIFACTS_FOLDER + File.separator
+				+ testName + "-" + timeStamp + "-" + System.nanoTime() % 100000 + ".json.gz");
+		pending.add(writer.submit(() -> write(file, snapshot)));
+		return file.getPath();
+	}
+
+	private static void write(File file, Map<String, Object> snapshot) {
+		file.getParentFile().mkdirs();
+		try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+			mapper.writeValue(out, snapshot);
+		} catch (IOException e) {
+			logger.error("❌ Failed to write DOM snapshot: " + file.getPath(), e);
+			return;
+		}
+		bytesWritten.addAndGet(file.length());
+		domSnapshots.incrementAndGet();
+		logger.info("🧾 DOM snapshot saved (" + file.length() / 1024 + " KB) → " + file.getPath());
+	}
+
+	// Browser console, where the driver exposes it (Chrome with goog:loggingPrefs); empty otherwise
+	private static List<String> consoleLog(WebDriver driver) {
+		List<String> lines = new ArrayList<>();
+		try {
+			for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+				lines.add(entry.getLevel() + " " + entry.getMessage());
+			}
+		} catch (WebDriverException | UnsupportedOperationException e) {
+			logger.debug("Console log not available: {}", e.getMessage());
+		}
+		return lines;
+	}
+
+	private static boolean sampled(String failureClass) {
+		double rate = SAMPLING.getOrDefault(failureClass, SAMPLING.getOrDefault("*", 1.0));
+		return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+	}
+
+	private static Map<String, Double> parseSampling(String spec) {
+		Map<String, Double> rates = new LinkedHashMap<>();
+		for (String entry : spec.split(",")) {
+			String[] parts = entry.trim().split("=");
+			if (parts.length == 2) {
+				rates.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+			}
+		}
+		return rates;
+	}
+}
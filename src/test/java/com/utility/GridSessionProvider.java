@@ -0,0 +1,57 @@
+package com.utility;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import com.constants.Browser;
+
+/**
+ * Any W3C hub: a Selenium Grid, or a local standalone server for offline runs
+ * (java -jar selenium-server-&lt;version&gt;.jar standalone → http://localhost:4444).
+ */
+public class GridSessionProvider implements RemoteSessionProvider {
+
+	public static final String DEFAULT_HUB_URL = "http://localhost:4444";
+
+	@Override
+	public String name() {
+		return "grid";
+	}
+
+	@Override
+	public String defaultHubUrl() {
+		return DEFAULT_HUB_URL;
+	}
+
+	@Override
+	public Capabilities capabilities(Browser browserName, String testName, boolean isHeadLess) {
+		return switch (browserName) {
+		case FIREFOX -> {
+			FirefoxOptions options = new FirefoxOptions();
+			options.setPageLoadStrategy(BrowserUtility.getPageLoadStrategy());
+			if (isHeadLess) {
+				options.addArguments("--headless", "--width=1920", "--height=1080");
+			}
+			yield options;
+		}
+		case EDGE -> {
+			EdgeOptions options = new EdgeOptions();
+			options.setPageLoadStrategy(BrowserUtility.getPageLoadStrategy());
+			if (isHeadLess) {
+				options.addArguments("--headless=new", "--window-size=1920,1080");
+			}
+			yield options;
+		}
+		default -> {
+			ChromeOptions options = new ChromeOptions();
+			options.setPageLoadStrategy(BrowserUtility.getPageLoadStrategy());
+			if (isHeadLess) {
+				options.addArguments("--headless=new", "--disable-dev-shm-usage", "--window-size=1920,1080");
+			}
+			yield options;
+		}
+		};
+	}
+}
@@ -0,0 +1,415 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Record / replay of the application's HTTP traffic (-DhttpArchive=off|record|replay).
+ *
+ * RECORD (local Chrome): responses from the environment's origin are captured
+ * through DevTools into recordings/&lt;ENV&gt;/ (index.json + bodies/), merged
+ * with what earlier recordings already hold. Only passing tests' traffic is
+ * kept ({@link #endRecording}): a failing test may have seen a broken backend.
+ *
+ * REPLAY: an embedded HTTP server on 127.0.0.1 serves the archive; HomePage's
+ * URL is rewritten to it ({@link #resolveUrl}), absolute links to the recorded
+ * origin are rewritten in text responses, and Chrome resolves no other host,
+ * so the run never touches the network. Requests are matched on method, path +
+ * query and request body; misses get a 404 and are listed at the end.
+ */
+public class HttpArchiveUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(HttpArchiveUtility.class);
+
+	private static final String ARCHIVE_FOLDER = "recordings";
+	private static final String INDEX_FILE = "index.json";
+	private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "content-encoding",
+			"transfer-encoding", "connection", "keep-alive", "strict-transport-security", "alt-svc");
+	private static final Set<String> TEXT_TYPES = Set.of("html", "javascript", "json", "css", "text", "xml");
+
+	private enum Mode {
+		OFF, RECORD, REPLAY
+	}
+
+	private static final Mode MODE = Mode.valueOf(System.getProperty("httpArchive", "off").trim().toUpperCase());
+
+	/** One archived response; the body lives in bodies/&lt;bodyFile&gt;. */
+	public record ArchiveEntry(String key, String method, String url, int status, Map<String, String> headers,
+			String bodyFile) {
+	}
+
+	private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	// RECORD: env → key → entry, from passed tests only
+	private static final Map<String, Map<String, ArchiveEntry>> recorded = new ConcurrentHashMap<>();
+	// RECORD: the test thread's session, until its test ends
+	private static final ThreadLocal<Recording> recording = new ThreadLocal<>();
+	private static final AtomicInteger bodyCounter = new AtomicInteger();
+	// CDP commands must not be sent from the DevTools event thread itself
+	private static final ExecutorService cdpExecutor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "http-archive");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// REPLAY: env → running server
+	private static final Map<String, ReplayServer> servers = new ConcurrentHashMap<>();
+
+	private HttpArchiveUtility() {
+	}
+
+	public static boolean isReplaying() {
+		return MODE == Mode.REPLAY;
+	}
+
+	// ================================================================================
+	// RECORD
+	// ================================================================================
+
+	/** Starts capturing the session's responses from the environment's origin (record mode only). */
+	public static void startRecording(WebDriver driver, String env) {
+		if (MODE != Mode.RECORD) {
+			return;
+		}
+		if (!(driver instanceof HasDevTools hasDevTools)) {
+			logger.warn("⚠️ HTTP recording needs DevTools (local Chrome): session not recorded.");
+			return;
+		}
+		endRecording(false); // a previous session of this thread whose test never reported
+		String origin = origin(JsonConfigUtility.getEnvData(env).getUrl());
+		Recording session = new Recording(env);
+		recording.set(session);
+		Map<String, Map<String, Object>> requests = new ConcurrentHashMap<>();
+		Map<String, Map<String, Object>> responses = new ConcurrentHashMap<>();
+		try {
+			DevTools devTools = hasDevTools.getDevTools();
+			devTools.createSessionIfThereIsNotOne();
+			devTools.send(new Command<Void>("Network.enable", Map.of()));
+			devTools.addListener(cdpEvent("Network.requestWillBeSent"), params -> {
+				Map<?, ?> request = (Map<?, ?>) params.get("request");
+				if (String.valueOf(request.get("url")).startsWith(origin)) {
+					requests.put(String.valueOf(params.get("requestId")), Map.copyOf(castMap(request)));
+				}
+			});
+			devTools.addListener(cdpEvent("Network.responseReceived"), params -> {
+				String requestId = String.valueOf(params.get("requestId"));
+				if (requests.containsKey(requestId)) {
+					responses.put(requestId, castMap((Map<?, ?>) params.get("response")));
+				}
+			});
+			devTools.addListener(cdpEvent("Network.loadingFinished"), params -> {
+				String requestId = String.valueOf(params.get("requestId"));
+				Map<String, Object> request = requests.remove(requestId);
+				Map<String, Object> response = responses.remove(requestId);
+				if (request != null && response != null && !session.closed) {
+					session.pending.add(cdpExecutor.submit(() -> archive(devTools, requestId, request, response,
+							session)));
+				}
+			});
+			logger.info("⏺️ Recording HTTP traffic of " + origin + " → " + archiveFolder(env).getPath());
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not start HTTP recording. Cause: " + e.getMessage());
+		}
+	}
+
+	private static void archive(DevTools devTools, String requestId, Map<String, Object> request,
+			Map<String, Object> response, Recording session) {
+		try {
+			Map<String, Object> body = devTools.send(new Command<>("Network.getResponseBody",
+					Map.of("requestId", requestId), input -> input.read(Json.MAP_TYPE)));
+			byte[] bytes = Boolean.TRUE.equals(body.get("base64Encoded"))
+					? Base64.getDecoder().decode(String.valueOf(body.get("body")))
+					: String.valueOf(body.get("body")).getBytes(StandardCharsets.UTF_8);
+
+			String bodyFile = bodyCounter.incrementAndGet() + "-" + System.currentTimeMillis() + ".bin";
+			File file = bodyFile(session.env, bodyFile);
+			file.getParentFile().mkdirs();
+			Files.write(file.toPath(), bytes);
+
+			String method = String.valueOf(request.get("method"));
+			String url = String.valueOf(request.get("url"));
+			String postData = (String) request.get("postData");
+			Map<String, String> headers = new java.util.LinkedHashMap<>();
+			castMap((Map<?, ?>) response.get("headers")).forEach((name, value) -> {
+				if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+					headers.put(name, String.valueOf(value));
+				}
+			});
+			String key = key(method, URI.create(url), postData);
+			session.entries.put(key, new ArchiveEntry(key, method, url, ((Number) response.get("status")).intValue(), headers,
+					bodyFile));
+		} catch (Exception e) {
+			logger.debug("Response body not available for {}: {}", request.get("url"), e.getMessage());
+		}
+	}
+
+	/**
+	 * Ends the calling thread's recording while its browser is still open: waits
+	 * for the response bodies still being fetched, then adds the session's
+	 * responses to the archive if the test passed, or drops them.
+	 */
+	public static void endRecording(boolean passed) {
+		Recording session = recording.get();
+		if (session == null) {
+			return;
+		}
+		recording.remove();
+		session.closed = true;
+		// Interrupted while waiting: the session's entries may be incomplete, drop them
+		if (session.awaitPending() && passed) {
+			recorded.computeIfAbsent(session.env, e -> new ConcurrentHashMap<>()).putAll(session.entries);
+			return;
+		}
+		session.entries.values().forEach(entry -> bodyFile(session.env, entry.bodyFile()).delete());
+		if (!session.entries.isEmpty()) {
+			logger.info("⏏️ " + session.entries.size() + " recorded response(s) of a failed test discarded");
+		}
+	}
+
+	/** Writes the recorded index (record mode) or logs replay misses (replay mode); end of suite. */
+	public static void finish() {
+		if (MODE == Mode.RECORD) {
+			// Bodies of sessions that never reported are still written: let them finish before saving
+			cdpExecutor.shutdown();
+			try {
+				cdpExecutor.awaitTermination(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			recorded.forEach(HttpArchiveUtility::saveIndex);
+		} else if (MODE == Mode.REPLAY) {
+			servers.values().forEach(ReplayServer::logMisses);
+		}
+	}
+
+	private static synchronized void saveIndex(String env, Map<String, ArchiveEntry> entries) {
+		File file = new File(archiveFolder(env), INDEX_FILE);
+		Map<String, ArchiveEntry> merged = loadIndex(env);
+		merged.putAll(entries);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, new ArrayList<>(merged.values()));
+			logger.info("💾 HTTP archive saved: " + entries.size() + " recorded / " + merged.size()
+					+ " total response(s) → " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to save HTTP archive: " + file.getPath(), e);
+		}
+	}
+
+	// One browser session's responses, kept apart until its test passes
+	private static final class Recording {
+		private final String env;
+		private final Map<String, ArchiveEntry> entries = new ConcurrentHashMap<>();
+		private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+		private volatile boolean closed;
+
+		private Recording(String env) {
+			this.env = env;
+		}
+
+		// False only when interrupted; a body that cannot be fetched is just not archived
+		private boolean awaitPending() {
+			for (Future<?> task : pending) {
+				try {
+					task.get(30, TimeUnit.SECONDS);
+				} catch (ExecutionException | TimeoutException e) {
+					logger.debug("Response body not archived: {}", e.getMessage());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	// ================================================================================
+	// REPLAY
+	// ================================================================================
+
+	/** The URL to open: unchanged, or pointed at the local replay server in replay mode. */
+	public static String resolveUrl(String env, String url) {
+		if (MODE != Mode.REPLAY || url == null || url.isBlank()) {
+			return url;
+		}
+		ReplayServer server = servers.computeIfAbsent(env, ReplayServer::start);
+		return url.replace(server.origin, server.localOrigin);
+	}
+
+	/** Chrome flags for replay: no host but the local server resolves. */
+	public static List<String> chromeArgs() {
+		return MODE == Mode.REPLAY ? List.of("--host-resolver-rules=MAP * ~NOTFOUND , EXCLUDE 127.0.0.1")
+				: List.of();
+	}
+
+	private static final class ReplayServer {
+		private final String env;
+		private final String origin;
+		private final String localOrigin;
+		private final Map<String, ArchiveEntry> entries;
+		private final Map<String, Integer> misses = new ConcurrentHashMap<>();
+
+		private ReplayServer(String env, String localOrigin) {
+			this.env = env;
+			this.origin = origin(JsonConfigUtility.getEnvData(env).getUrl());
+			this.localOrigin = localOrigin;
+			this.entries = loadIndex(env);
+		}
+
+		private static ReplayServer start(String env) {
+			try {
+				HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+				ReplayServer server = new ReplayServer(env, "http://127.0.0.1:" + http.getAddress().getPort());
+				if (server.entries.isEmpty()) {
+					throw new RuntimeException("❌ No HTTP archive for " + env + ": record one with -DhttpArchive=record");
+				}
+				http.createContext("/", server::handle);
+				http.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+				http.start();
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> http.stop(0), "replay-server-stop"));
+				logger.info("⏯️ Replaying " + server.entries.size() + " archived response(s) of " + server.origin
+						+ " at " + server.localOrigin);
+				return server;
+			} catch (IOException e) {
+				throw new RuntimeException("❌ Could not start the replay server for " + env, e);
+			}
+		}
+
+		private void handle(HttpExchange exchange) throws IOException {
+			byte[] requestBody = exchange.getRequestBody().readAllBytes();
+			URI uri = URI.create(origin + exchange.getRequestURI());
+			String postData = requestBody.length == 0 ? null : new String(requestBody, StandardCharsets.UTF_8);
+			String key = key(exchange.getRequestMethod(), uri, postData);
+			ArchiveEntry entry = entries.get(key);
+			if (entry == null) {
+				entry = entries.get(key(exchange.getRequestMethod(), uri, null)); // same request, other body
+			}
+			try (exchange) {
+				if (entry == null) {
+					misses.merge(key, 1, Integer::sum);
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				byte[] body = Files.readAllBytes(bodyFile(env, entry.bodyFile()).toPath());
+				for (Map.Entry<String, String> header : entry.headers().entrySet()) {
+					// Recorded header values hold one line per repeated header (e.g. set-cookie)
+					for (String value : header.getValue().split("\n")) {
+						exchange.getResponseHeaders().add(header.getKey(), value.replace(origin, localOrigin));
+					}
+				}
+				if (isText(entry.headers())) {
+					body = new String(body, StandardCharsets.UTF_8).replace(origin, localOrigin)
+							.getBytes(StandardCharsets.UTF_8);
+				}
+				boolean noBody = entry.status() == 204 || entry.status() == 304 || "HEAD".equals(entry.method());
+				exchange.sendResponseHeaders(entry.status(), noBody ? -1 : body.length);
+				if (!noBody) {
+					try (OutputStream out = exchange.getResponseBody()) {
+						out.write(body);
+					}
+				}
+			}
+		}
+
+		private void logMisses() {
+			if (misses.isEmpty()) {
+				logger.info("⏯️ Replay of " + env + ": every request was served from the archive");
+				return;
+			}
+			logger.warn("⚠️ Replay of " + env + ": " + misses.size() + " request(s) not in the archive (404), e.g. "
+					+ misses.keySet().stream().limit(10).toList());
+		}
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	// "POST /Account/v1/Login #1a2b3c" - the body hash keeps different users apart
+	private static String key(String method, URI uri, String postData) {
+		String pathAndQuery = (uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath())
+				+ (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+		return method.toUpperCase(Locale.ROOT) + " " + pathAndQuery
+				+ (postData == null ? "" : " #" + Integer.toHexString(postData.hashCode()));
+	}
+
+	private static boolean isText(Map<String, String> headers) {
+		return headers.entrySet().stream().filter(h -> h.getKey().equalsIgnoreCase("content-type"))
+				.anyMatch(h -> TEXT_TYPES.stream().anyMatch(type -> h.getValue().toLowerCase(Locale.ROOT).contains(type)));
+	}
+
+	private static String origin(String url) {
+		URI uri = URI.create(url);
+		return uri.getScheme() + "://" + uri.getRawAuthority();
+	}
+
+	private static File bodyFile(String env, String name) {
+		return new File(archiveFolder(env), "bodies" + File.separator + name);
+	}
+
+	private static File archiveFolder(String env) {
+		return new File(System.getProperty("user.dir") + File.separator + ARCHIVE_FOLDER + File.separator
+				+ env.toUpperCase(Locale.ROOT));
+	}
+
+	private static Map<String, ArchiveEntry> loadIndex(String env) {
+		Map<String, ArchiveEntry> entries = new ConcurrentHashMap<>();
+		File file = new File(archiveFolder(env), INDEX_FILE);
+		if (file.exists()) {
+			try {
+				for (ArchiveEntry entry : mapper.readValue(file, new TypeReference<List<ArchiveEntry>>() {
+				})) {
+					entries.put(entry.key(), entry);
+				}
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read HTTP archive " + file.getPath() + ". Cause: " + e.getMessage());
+			}
+		}
+		return entries;
+	}
+
+	private static Event<Map<String, Object>> cdpEvent(String method) {
+		return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> castMap(Map<?, ?> map) {
+		return (Map<String, Object>) map;
+	}
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ui.pojo.Config;
 import com.ui.pojo.Environment;
+import com.ui.pojo.LaunchProfile;
+import com.ui.pojo.NetworkProfile;
 
 public class JsonConfigUtility {
 
@@ -14,7 +16,30 @@ public class JsonConfigUtility {
     private JsonConfigUtility() {}
 
     public static Environment getEnvData(String string) {
-    	
+        return readConfig().getEnvironments().get(string);
+    }
+
+    public static NetworkProfile getNetworkProfile(String profileName) {
+        Config config = readConfig();
+        if (config.getNetworkProfiles() == null || !config.getNetworkProfiles().containsKey(profileName)) {
+            throw new RuntimeException("❌ Network profile not found in config.json: " + profileName);
+        }
+        return config.getNetworkProfiles().get(profileName);
+    }
+
+    public static LaunchProfile getLaunchProfile(String profileName) {
+        Config config = readConfig();
+        if (config.getLaunchProfiles() == null || !config.getLaunchProfiles().containsKey(profileName)) {
+            throw new RuntimeException("❌ Launch profile not found in config.json: " + profileName);
+        }
+        return config.getLaunchProfiles().get(profileName);
+    }
+
+    // Parsed once; callers arriving while SuiteBootstrap parses it wait on the lock
+    private static synchronized Config readConfig() {
+    	if (configData != null) {
+    		return configData;
+    	}
     	ObjectMapper mapper = new ObjectMapper();
     	File file = new File(System.getProperty("user.dir") + File.separator + "config" + File.separator + "config.json");
             try {
@@ -26,17 +51,9 @@ public class JsonConfigUtility {
                 throw new RuntimeException("❌ Failed to read config.json", e);
             }
         
-        return configData.getEnvironments().get(string);
+        return configData;
         
     }
 
   
 }
-
-
-
-
-
-
-
-
@@ -0,0 +1,63 @@
+package com.utility;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import com.constants.Browser;
+import com.constants.Env;
+
+public class LambdaTestSessionProvider implements RemoteSessionProvider {
+
+	public static final String HUB_URL = "https://hub.lambdatest.com/wd/hub";
+
+	// Credentials are read once per JVM instead of once per session
+	private static final class Credentials {
+		static final String USER_NAME = PropertiesUtility.readProperty(Env.DEV, "userName");
+		static final String ACCESS_TOKEN = PropertiesUtility.readProperty(Env.DEV, "accesstoken");
+	}
+
+	@Override
+	public String name() {
+		return "lambdatest";
+	}
+
+	@Override
+	public String defaultHubUrl() {
+		return HUB_URL;
+	}
+
+	@Override
+	public Capabilities capabilities(Browser browserName, String testName, boolean isHeadLess) {
+		DesiredCapabilities capabilities = new DesiredCapabilities();
+		capabilities.setCapability("browserName", browserName.toString());
+		capabilities.setCapability("browserVersion", "latest");
+		capabilities.setCapability("pageLoadStrategy", BrowserUtility.getPageLoadStrategy().toString());
+
+		Map<String, Object> ltOptions = new HashMap<>();
+		ltOptions.put("user", Credentials.USER_NAME);
+		ltOptions.put("accessKey", Credentials.ACCESS_TOKEN);
+		ltOptions.put("build", "Selenium 4 Framework");
+		ltOptions.put("name", testName);
+		ltOptions.put("platformName", "Windows 10");
+		ltOptions.put("seCdp", true);
+		ltOptions.put("selenium_version", "latest");
+
+		// ✅ LOGIC CHECK: Toggles Video/Visuals based on Headless flag
+		ltOptions.put("visual", !isHeadLess);
+		ltOptions.put("video", !isHeadLess);
+
+		capabilities.setCapability("LT:Options", ltOptions);
+		return capabilities;
+	}
+
+	@Override
+	public void onLease(WebDriver driver, String testName) {
+		// A pooled session keeps the name of the test that created it; rename it
+		((JavascriptExecutor) driver).executeScript("lambda-name=" + testName);
+	}
+}
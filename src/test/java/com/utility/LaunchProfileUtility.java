@@ -0,0 +1,211 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import com.constants.Browser;
+import com.ui.pojo.LaunchProfile;
+
+/**
+ * Local browser launch profiles ("launchProfiles" in config.json), selected
+ * with -DlaunchProfile=fast-headless|ci|debug; without it (or with "none") the browser launches plainly.
+ *
+ * Profiles with "useProfileTemplate" launch the browser ONCE against an empty
+ * directory so first-run work (profile creation, component registration,
+ * default prefs) is done up front. Every session then gets a clone of that
+ * template: copy-on-write via {@code cp --reflink=auto} (Linux) or
+ * {@code cp -c} (macOS APFS), plain copy elsewhere. The template directory name
+ * carries a hash of the flags, so editing a profile rebuilds it.
+ *
+ * Launch timings are recorded in MetricsUtility under {@value #CATEGORY}.
+ */
+public class LaunchProfileUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(LaunchProfileUtility.class);
+
+	public static final String CATEGORY = "browser-launch";
+
+	/** Marker shared by every template / session directory (used to spot our browser processes). */
+	public static final String PROFILES_ROOT = System.getProperty("java.io.tmpdir") + File.separator
+			+ "sentinel-profiles";
+
+	private static final String TEMPLATE_MARKER = ".sentinel-template";
+	private static final long PREFS_WAIT_MS = 10_000; // upper bound for the browser to flush its prefs on exit
+	private static final List<String> LOCK_FILES = List.of("SingletonLock", "SingletonSocket", "SingletonCookie",
+			"lock", "parent.lock", ".parentlock");
+
+	private static final Map<Path, Object> templateLocks = new ConcurrentHashMap<>();
+	private static final ThreadLocal<Path> sessionDir = new ThreadLocal<>();
+
+	private LaunchProfileUtility() {
+	}
+
+	public static String getProfileName() {
+		return System.getProperty("launchProfile", "").trim();
+	}
+
+	/** The selected profile, or null for the plain launch (no -DlaunchProfile, or "none"). */
+	public static LaunchProfile getProfile() {
+		String profileName = getProfileName();
+		if (profileName.isEmpty() || profileName.equalsIgnoreCase("none")) {
+			return null;
+		}
+		return JsonConfigUtility.getLaunchProfile(profileName);
+	}
+
+	/**
+	 * Returns a fresh clone of the profile template for the session about to
+	 * start on this thread, building the template first if needed. Returns null
+	 * when the template cannot be prepared (the session then starts with a
+	 * throw-away profile, as without a launch profile).
+	 *
+	 * @param launcher starts a browser that uses the given directory as its profile
+	 */
+	public static Path prepareSessionDir(Browser browser, List<String> args, Function<Path, WebDriver> launcher) {
+		Path template = Paths.get(PROFILES_ROOT, "template-" + getProfileName() + "-" + browser.name().toLowerCase()
+				+ "-" + Integer.toHexString(args.hashCode()));
+		try {
+			ensureTemplate(template, browser, launcher);
+			Path clone = Paths.get(PROFILES_ROOT, "session-" + UUID.randomUUID());
+			cloneDirectory(template, clone);
+			sessionDir.set(clone);
+			return clone;
+		} catch (Exception e) {
+			logger.warn("⚠️ Profile template unavailable, launching with a fresh profile. Cause: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/** Records how long the launch took for the report / reports/metrics/browser-launch.json. */
+	public static void recordLaunch(Browser browser, boolean headless, long cloneMs, long launchMs) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("profile", getProfileName());
+		values.put("browser", browser.name());
+		values.put("headless", headless);
+		values.put("templateClone", sessionDir.get() != null);
+		values.put("cloneMs", cloneMs);
+		values.put("launchMs", launchMs);
+		MetricsUtility.record(CATEGORY, values);
+		logger.info("⏱️ Browser launched in " + launchMs + " ms [profile: " + getProfileName() + " | clone: " + cloneMs
+				+ " ms]");
+	}
+
+	/** Deletes the session's profile clone once the browser is gone. */
+	public static void cleanupSessionDir() {
+		Path clone = sessionDir.get();
+		sessionDir.remove();
+		if (clone != null) {
+			deleteQuietly(clone);
+		}
+	}
+
+	// ================================================================================
+	// TEMPLATE & CLONING
+	// ================================================================================
+
+	private static void ensureTemplate(Path template, Browser browser, Function<Path, WebDriver> launcher)
+			throws IOException {
+		synchronized (templateLocks.computeIfAbsent(template, t -> new Object())) {
+			if (Files.exists(template.resolve(TEMPLATE_MARKER))) {
+				return;
+			}
+			long start = System.currentTimeMillis();
+			deleteQuietly(template);
+			Files.createDirectories(template);
+
+			WebDriver warmUp = launcher.apply(template);
+			try {
+				warmUp.get("about:blank");
+			} finally {
+				warmUp.quit();
+			}
+			// quit() returns once the driver is done; the browser may still be writing its prefs on the way out
+			Path prefs = template.resolve(browser == Browser.FIREFOX ? "prefs.js" : "Default/Preferences");
+			if (!awaitFile(prefs, PREFS_WAIT_MS)) {
+				throw new IOException("browser exited without writing " + prefs);
+			}
+			for (String lockFile : LOCK_FILES) {
+				Files.deleteIfExists(template.resolve(lockFile));
+			}
+			Files.createFile(template.resolve(TEMPLATE_MARKER));
+			logger.info("🧰 Profile template prepared in " + (System.currentTimeMillis() - start) + " ms → " + template);
+		}
+	}
+
+	private static boolean awaitFile(Path file, long timeoutMs) {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		while (!Files.exists(file)) {
+			if (System.currentTimeMillis() > deadline) {
+				return false;
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void cloneDirectory(Path source, Path target) throws IOException {
+		String os = System.getProperty("os.name").toLowerCase();
+		if (!os.contains("win")) {
+			List<String> command = os.contains("mac")
+					? List.of("cp", "-c", "-R", source.toString(), target.toString())
+					: List.of("cp", "-a", "--reflink=auto", source.toString(), target.toString());
+			try {
+				Process process = new ProcessBuilder(command).redirectErrorStream(true)
+						.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+				if (process.waitFor(30, TimeUnit.SECONDS) && process.exitValue() == 0) {
+					return;
+				}
+				process.destroyForcibly();
+			} catch (IOException e) {
+				logger.debug("cp clone failed, falling back to a plain copy: {}", e.getMessage());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			deleteQuietly(target);
+		}
+
+		try (Stream<Path> paths = Files.walk(source)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Path destination = target.resolve(source.relativize(path).toString());
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(destination);
+				} else {
+					Files.copy(path, destination, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+				}
+			}
+		}
+	}
+
+	private static void deleteQuietly(Path directory) {
+		if (!Files.exists(directory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		} catch (IOException e) {
+			logger.warn("⚠️ Could not delete profile directory " + directory + ". Cause: " + e.getMessage());
+		}
+	}
+}
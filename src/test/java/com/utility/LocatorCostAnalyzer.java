@@ -0,0 +1,290 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Measures what the static {@code By} fields of a page object cost to
+ * evaluate in the browser (-DlocatorAudit=true, once per page class and run,
+ * on the live or replayed page).
+ *
+ * Simple XPath locators get a faster candidate (id / name / tag / CSS
+ * attribute selector, link text for text matches on links). A candidate is
+ * only suggested when it finds exactly the same elements on the page. Both
+ * are timed in one script (document.evaluate vs querySelectorAll, averaged
+ * over -DlocatorIterations runs); the results go to the "locator-cost"
+ * metrics and reports/locators/&lt;Page&gt;.json, with the time saved per page
+ * load (every locator looked up once). With -DlocatorAutoApply=true the
+ * verified suggestions are written into the page object's source.
+ */
+public class LocatorCostAnalyzer {
+
+	private static final Logger logger = LoggerUtility.getLogger(LocatorCostAnalyzer.class);
+
+	public static final String CATEGORY = "locator-cost";
+
+	private static final String REPORT_FOLDER = "reports" + File.separator + "locators";
+	private static final String SOURCE_FOLDER = "src" + File.separator + "test" + File.separator + "java";
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("locatorAudit", "false"));
+	private static final boolean AUTO_APPLY = Boolean.parseBoolean(System.getProperty("locatorAutoApply", "false"));
+	private static final int ITERATIONS = Integer.parseInt(System.getProperty("locatorIterations", "500").trim());
+
+	// "By.xpath: //label[@id='userName-value']" → kind, value
+	private static final Pattern BY_PATTERN = Pattern.compile("By\\.(\\w+): (.*)", Pattern.DOTALL);
+	private static final Pattern XPATH_ATTRIBUTE = Pattern
+			.compile("//(\\*|[\\w-]+)\\[@([\\w-]+)\\s*=\\s*(['\"])([^'\"]+)\\3\\]");
+	private static final Pattern XPATH_TAG = Pattern.compile("//([\\w-]+)");
+	private static final Pattern XPATH_LINK_TEXT = Pattern
+			.compile("//a\\[(?:(contains)\\(\\s*(?:text\\(\\)|\\.)\\s*,\\s*(['\"])([^'\"]+)\\2\\s*\\)|(?:text\\(\\)|\\.)\\s*=\\s*(['\"])([^'\"]+)\\4)\\]");
+
+	// Times each {current, candidate} pair and checks both find the same nodes
+	private static final String MEASURE_SCRIPT = """
+			var pairs = arguments[0], n = arguments[1];
+			function finder(s) {
+			  if (!s) { return null; }
+			  var v = s.value;
+			  switch (s.kind) {
+			    case 'xpath': return function () {
+			      var r = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), a = [];
+			      for (var i = 0; i < r.snapshotLength; i++) { a.push(r.snapshotItem(i)); }
+			      return a; };
+			    case 'id': return function () { return Array.from(document.querySelectorAll('#' + CSS.escape(v))); };
+			    case 'name': return function () { return Array.from(document.querySelectorAll('[name="' + CSS.escape(v) + '"]')); };
+			    case 'className': return function () { return Array.from(document.querySelectorAll('.' + CSS.escape(v))); };
+			    case 'tagName': case 'cssSelector': return function () { return Array.from(document.querySelectorAll(v)); };
+			    case 'linkText': return function () { return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.trim() === v; }); };
+			    case 'partialLinkText': return function () { return Array.from(document.querySelectorAll('a')).filter(function (a) { return a.innerText.indexOf(v) >= 0; }); };
+			  }
+			  return null;
+			}
+			function time(f) {
+			  var t0 = performance.now();
+			  for (var i = 0; i < n; i++) { f(); }
+			  return (performance.now() - t0) * 1000 / n;
+			}
+			return pairs.map(function (p) {
+			  var current = finder(p[0]), candidate = finder(p[1]), result = {};
+			  if (!current) { return result; }
+			  var nodes = current();
+			  result.count = nodes.length;
+			  result.currentUs = time(current);
+			  if (candidate) {
+			    var other = candidate();
+			    result.same = nodes.length > 0 && nodes.length === other.length
+			      && nodes.every(function (node, i) { return node === other[i]; });
+			    result.candidateUs = time(candidate);
+			  }
+			  return result;
+			});
+			""";
+
+	private record Locator(String field, By by, String kind, String value, String candidateKind,
+			String candidateValue) {
+	}
+
+	private static final Set<Class<?>> analyzed = ConcurrentHashMap.newKeySet();
+	private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private LocatorCostAnalyzer() {
+	}
+
+	/** Analyzes the page class's locators on the page currently loaded (first call per class only). */
+	public static void analyzeOnce(Class<?> pageClass, WebDriver driver) {
+		if (!ENABLED || driver == null || !analyzed.add(pageClass)) {
+			return;
+		}
+		try {
+			analyze(pageClass, driver);
+		} catch (RuntimeException e) {
+			logger.warn("⚠️ Locator analysis of " + pageClass.getSimpleName() + " failed. Cause: " + e.getMessage());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void analyze(Class<?> pageClass, WebDriver driver) {
+		List<Locator> locators = locatorsOf(pageClass);
+		if (locators.isEmpty()) {
+			return;
+		}
+		List<List<Map<String, String>>> pairs = new ArrayList<>();
+		for (Locator locator : locators) {
+			List<Map<String, String>> pair = new ArrayList<>();
+			pair.add(Map.of("kind", locator.kind(), "value", locator.value()));
+			pair.add(locator.candidateKind() == null ? null
+					: Map.of("kind", locator.candidateKind(), "value", locator.candidateValue()));
+			pairs.add(pair);
+		}
+		List<Map<String, Object>> measured = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+				.executeScript(MEASURE_SCRIPT, pairs, ITERATIONS);
+
+		List<Map<String, Object>> rows = new ArrayList<>();
+		List<Locator> verified = new ArrayList<>();
+		double savedUs = 0;
+		for (int i = 0; i < locators.size(); i++) {
+			Locator locator = locators.get(i);
+			Map<String, Object> result = measured.get(i);
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("locator", locator.field());
+			row.put("current", locator.by().toString());
+			row.put("matches", result.get("count"));
+			row.put("currentUs", round(result.get("currentUs")));
+			if (locator.candidateKind() != null) {
+				boolean same = Boolean.TRUE.equals(result.get("same"));
+				double saving = number(result.get("currentUs")) - number(result.get("candidateUs"));
+				row.put("suggestion", "By." + locator.candidateKind() + ": " + locator.candidateValue());
+				row.put("suggestedUs", round(result.get("candidateUs")));
+				row.put("savedUs", same ? round(saving) : 0);
+				row.put("note", same ? "✅ same elements" : "❌ finds different elements on this page");
+				if (same && saving > 0) {
+					savedUs += saving;
+					verified.add(locator);
+				}
+			}
+			rows.add(row);
+		}
+		rows.forEach(values -> MetricsUtility.record(CATEGORY, values));
+		writeReport(pageClass, driver.getCurrentUrl(), rows, savedUs);
+		logger.info("🔎 " + pageClass.getSimpleName() + ": " + locators.size() + " locator(s), " + verified.size()
+				+ " faster equivalent(s), " + round(savedUs) + " µs saved per page load");
+		if (AUTO_APPLY && !verified.isEmpty()) {
+			apply(pageClass, verified);
+		}
+	}
+
+	// Static By fields, each with a faster candidate when one can be derived
+	private static List<Locator> locatorsOf(Class<?> pageClass) {
+		List<Locator> locators = new ArrayList<>();
+		for (Field field : pageClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || !By.class.isAssignableFrom(field.getType())) {
+				continue;
+			}
+			try {
+				field.setAccessible(true);
+				By by = (By) field.get(null);
+				Matcher matcher = by == null ? null : BY_PATTERN.matcher(by.toString());
+				if (matcher == null || !matcher.matches()) {
+					continue; // relative / chained locators
+				}
+				String kind = matcher.group(1);
+				String value = matcher.group(2);
+				String[] candidate = "xpath".equals(kind) ? fasterThan(value.trim()) : null;
+				locators.add(new Locator(field.getName(), by, kind, value, candidate == null ? null : candidate[0],
+						candidate == null ? null : candidate[1]));
+			} catch (IllegalAccessException | RuntimeException e) {
+				logger.debug("Locator {} not readable: {}", field.getName(), e.getMessage());
+			}
+		}
+		return locators;
+	}
+
+	// {kind, value} of a non-XPath locator for simple XPath shapes, or null
+	private static String[] fasterThan(String xpath) {
+		Matcher attribute = XPATH_ATTRIBUTE.matcher(xpath);
+		if (attribute.matches()) {
+			String tag = attribute.group(1).equals("*") ? "" : attribute.group(1);
+			String name = attribute.group(2);
+			String value = attribute.group(4);
+			if (name.equals("id")) {
+				return new String[] { "id", value };
+			}
+			if (name.equals("name") && tag.isEmpty()) {
+				return new String[] { "name", value };
+			}
+			return new String[] { "cssSelector", tag + "[" + name + "=\"" + value + "\"]" };
+		}
+		Matcher tag = XPATH_TAG.matcher(xpath);
+		if (tag.matches()) {
+			return new String[] { "tagName", tag.group(1) };
+		}
+		Matcher link = XPATH_LINK_TEXT.matcher(xpath);
+		if (link.matches()) {
+			return link.group(1) != null ? new String[] { "partialLinkText", link.group(3) }
+					: new String[] { "linkText", link.group(5) };
+		}
+		return null;
+	}
+
+	// ================================================================================
+	// REPORT & AUTO-APPLY
+	// ================================================================================
+
+	private static void writeReport(Class<?> pageClass, String url, List<Map<String, Object>> rows, double savedUs) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("page", pageClass.getName());
+		report.put("url", url);
+		report.put("iterations", ITERATIONS);
+		report.put("savedUsPerPageLoad", round(savedUs));
+		report.put("locators", rows);
+		File file = new File(System.getProperty("user.dir") + File.separator + REPORT_FOLDER,
+				pageClass.getSimpleName() + ".json");
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, report);
+		} catch (IOException e) {
+			logger.error("❌ Failed to write locator report: " + file.getPath(), e);
+		}
+	}
+
+	// Replaces By.xpath("...") literals of the verified locators in the page object's source
+	private static synchronized void apply(Class<?> pageClass, List<Locator> verified) {
+		File source = new File(System.getProperty("user.dir") + File.separator + SOURCE_FOLDER,
+				pageClass.getName().replace('.', File.separatorChar) + ".java");
+		if (!source.exists()) {
+			logger.warn("⚠️ Source of " + pageClass.getSimpleName() + " not found, suggestions not applied: "
+					+ source.getPath());
+			return;
+		}
+		try {
+			String code = Files.readString(source.toPath(), StandardCharsets.UTF_8);
+			int applied = 0;
+			for (Locator locator : verified) {
+				String current = "By." + locator.kind() + "(\"" + javaString(locator.value()) + "\")";
+				String faster = "By." + locator.candidateKind() + "(\"" + javaString(locator.candidateValue()) + "\")";
+				if (code.contains(current)) {
+					code = code.replace(current, faster);
+					applied++;
+					logger.info("✏️ " + pageClass.getSimpleName() + "." + locator.field() + ": " + current + " → "
+							+ faster);
+				}
+			}
+			if (applied > 0) {
+				Files.writeString(source.toPath(), code, StandardCharsets.UTF_8);
+			}
+		} catch (IOException e) {
+			logger.error("❌ Failed to apply locator suggestions to " + source.getPath(), e);
+		}
+	}
+
+	private static String javaString(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static double number(Object value) {
+		return value instanceof Number number ? number.doubleValue() : 0;
+	}
+
+	private static double round(Object value) {
+		return Math.round(number(value) * 100) / 100.0;
+	}
+}
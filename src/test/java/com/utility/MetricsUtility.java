@@ -0,0 +1,112 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Per-test metric records grouped by category (e.g. "page-performance").
+ *
+ * Framework code calls {@link #record} from the test thread; TestListener
+ * publishes the records of the finished test into the Extent report and
+ * {@link #export()} writes one machine-readable file per category to
+ * reports/metrics/&lt;category&gt;.json at the end of the suite.
+ */
+public class MetricsUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(MetricsUtility.class);
+
+	private static final String METRICS_FOLDER = "reports" + File.separator + "metrics";
+
+	private static final ThreadLocal<Map<String, List<Map<String, Object>>>> testMetrics = ThreadLocal
+			.withInitial(LinkedHashMap::new);
+	private static final Map<String, List<Map<String, Object>>> suiteMetrics = new ConcurrentHashMap<>();
+
+	private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private MetricsUtility() {
+	}
+
+	public static void record(String category, Map<String, Object> values) {
+		testMetrics.get().computeIfAbsent(category, c -> new ArrayList<>()).add(values);
+	}
+
+	/** Records collected so far for the test running on this thread. */
+	public static List<Map<String, Object>> getTestMetrics(String category) {
+		return testMetrics.get().getOrDefault(category, List.of());
+	}
+
+	/** Drops anything left over from a previous test on this thread. */
+	public static void reset() {
+		testMetrics.get().clear();
+	}
+
+	/**
+	 * Adds the records of the finished test to the Extent report (one table per
+	 * category) and keeps them, tagged with the test name, for {@link #export()}.
+	 */
+	public static void publish(String testName) {
+		Map<String, List<Map<String, Object>>> metrics = testMetrics.get();
+		for (Map.Entry<String, List<Map<String, Object>>> category : metrics.entrySet()) {
+			List<Map<String, Object>> records = category.getValue();
+			if (records.isEmpty()) {
+				continue;
+			}
+			if (ExtentReporterUtility.getTest() != null) {
+				ExtentReporterUtility.getTest().info("📈 " + category.getKey());
+				ExtentReporterUtility.getTest().info(MarkupHelper.createTable(toTable(records)));
+			}
+			List<Map<String, Object>> suiteRecords = suiteMetrics.computeIfAbsent(category.getKey(),
+					c -> Collections.synchronizedList(new ArrayList<>()));
+			for (Map<String, Object> values : records) {
+				Map<String, Object> tagged = new LinkedHashMap<>();
+				tagged.put("test", testName);
+				tagged.putAll(values);
+				suiteRecords.add(tagged);
+			}
+		}
+		metrics.clear();
+	}
+
+	public static void export() {
+		File folder = new File(System.getProperty("user.dir") + File.separator + METRICS_FOLDER);
+		folder.mkdirs();
+		for (Map.Entry<String, List<Map<String, Object>>> category : suiteMetrics.entrySet()) {
+			File file = new File(folder, category.getKey() + ".json");
+			try {
+				synchronized (category.getValue()) {
+					mapper.writeValue(file, category.getValue());
+				}
+				logger.info("📈 Metrics exported → " + file.getPath());
+			} catch (IOException e) {
+				logger.error("❌ Failed to export metrics: " + file.getPath(), e);
+			}
+		}
+	}
+
+	private static String[][] toTable(List<Map<String, Object>> records) {
+		Set<String> columns = new LinkedHashSet<>();
+		records.forEach(values -> columns.addAll(values.keySet()));
+
+		String[][] table = new String[records.size() + 1][];
+		table[0] = columns.toArray(new String[0]);
+		for (int row = 0; row < records.size(); row++) {
+			Map<String, Object> values = records.get(row);
+			table[row + 1] = columns.stream().map(c -> String.valueOf(values.getOrDefault(c, ""))).toArray(String[]::new);
+		}
+		return table;
+	}
+}
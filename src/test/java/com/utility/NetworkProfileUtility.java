@@ -0,0 +1,240 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ui.pojo.NetworkProfile;
+
+/**
+ * Applies a "networkProfiles" entry from config.json to a new session through
+ * Chrome DevTools (Fetch + Network domains), selected with
+ * -DnetworkProfile=off|block|emulate|&lt;custom&gt;.
+ *
+ * Per-test counters (blocked requests, estimated bytes saved) are recorded in
+ * MetricsUtility under {@value #CATEGORY}. Bytes saved are estimated from the
+ * sizes observed for the same URLs in earlier unblocked loads, kept in
+ * history/resource-sizes.json; URLs never seen unblocked are sized with a HEAD
+ * request (Content-Length) and remembered there too.
+ */
+public class NetworkProfileUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(NetworkProfileUtility.class);
+
+	public static final String CATEGORY = "network";
+
+	private static final String SIZES_FILE = "history" + File.separator + "resource-sizes.json";
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final Map<String, Long> knownResourceSizes = loadSizes();
+
+	private static final HttpClient sizeClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2))
+			.followRedirects(HttpClient.Redirect.NORMAL).build();
+
+	// CDP commands must not be sent from the DevTools event thread itself
+	private static final ExecutorService cdpExecutor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "network-profile");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(NetworkProfileUtility::saveSizes, "resource-sizes-save"));
+	}
+
+	private NetworkProfileUtility() {
+	}
+
+	public static String getProfileName() {
+		return System.getProperty("networkProfile", "off").trim();
+	}
+
+	/**
+	 * Applies the configured profile to a freshly launched session. Sessions
+	 * without DevTools support (Firefox, plain remote sessions) run unmodified.
+	 */
+	public static void apply(WebDriver driver) {
+		String profileName = getProfileName();
+		if (profileName.isEmpty() || profileName.equalsIgnoreCase("off")) {
+			return;
+		}
+		if (!(driver instanceof HasDevTools hasDevTools)) {
+			logger.warn("⚠️ Network profile '" + profileName + "' ignored: session has no DevTools support.");
+			return;
+		}
+
+		NetworkProfile profile = JsonConfigUtility.getNetworkProfile(profileName);
+		try {
+			DevTools devTools = hasDevTools.getDevTools();
+			devTools.createSessionIfThereIsNotOne();
+
+			Map<String, Object> stats = new LinkedHashMap<>();
+			stats.put("profile", profileName);
+			AtomicLong blockedRequests = new AtomicLong();
+			AtomicLong bytesSaved = new AtomicLong();
+			AtomicLong unknownSizes = new AtomicLong();
+			stats.put("blockedRequests", blockedRequests);
+			stats.put("estimatedBytesSaved", bytesSaved);
+			stats.put("blockedWithUnknownSize", unknownSizes);
+
+			// Learn resource sizes (needed to estimate what blocking saves)
+			Map<String, String> urlsByRequestId = new ConcurrentHashMap<>();
+			devTools.send(new Command<Void>("Network.enable", Map.of()));
+			devTools.addListener(cdpEvent("Network.responseReceived"), params -> {
+				Map<?, ?> response = (Map<?, ?>) params.get("response");
+				urlsByRequestId.put(String.valueOf(params.get("requestId")), String.valueOf(response.get("url")));
+			});
+			devTools.addListener(cdpEvent("Network.loadingFinished"), params -> {
+				String url = urlsByRequestId.remove(String.valueOf(params.get("requestId")));
+				Object length = params.get("encodedDataLength");
+				if (url != null && length instanceof Number number && number.longValue() > 0) {
+					knownResourceSizes.put(url, number.longValue());
+				}
+			});
+
+			if (profile.blocksRequests()) {
+				devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", fetchPatterns(profile))));
+				devTools.addListener(cdpEvent("Fetch.requestPaused"), params -> {
+					Map<?, ?> request = (Map<?, ?>) params.get("request");
+					String url = String.valueOf(request.get("url"));
+					Long size = knownResourceSizes.get(url);
+					blockedRequests.incrementAndGet();
+					if (size != null) {
+						bytesSaved.addAndGet(size);
+					}
+					Object requestId = params.get("requestId");
+					cdpExecutor.execute(() -> {
+						sendQuietly(devTools, new Command<Void>("Fetch.failRequest",
+								Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+						// Blocked URLs never load, so sizes are only learned here when never seen unblocked
+						if (size == null) {
+							long length = contentLength(url);
+							if (length > 0) {
+								knownResourceSizes.put(url, length);
+								bytesSaved.addAndGet(length);
+							} else {
+								unknownSizes.incrementAndGet();
+							}
+						}
+					});
+				});
+			}
+
+			if (profile.emulatesNetwork()) {
+				Map<String, Object> conditions = new LinkedHashMap<>();
+				conditions.put("offline", false);
+				conditions.put("latency", profile.getLatencyMs());
+				conditions.put("downloadThroughput", throughput(profile.getDownloadKbps()));
+				conditions.put("uploadThroughput", throughput(profile.getUploadKbps()));
+				devTools.send(new Command<Void>("Network.emulateNetworkConditions", conditions));
+				stats.put("latencyMs", profile.getLatencyMs());
+				stats.put("downloadKbps", profile.getDownloadKbps());
+				stats.put("uploadKbps", profile.getUploadKbps());
+			}
+
+			MetricsUtility.record(CATEGORY, stats);
+			logger.info("🌐 Network profile applied: " + profileName + " [block: " + profile.blocksRequests()
+					+ " | emulate: " + profile.emulatesNetwork() + "]");
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not apply network profile '" + profileName + "'. Cause: " + e.getMessage());
+		}
+	}
+
+	public static synchronized void saveSizes() {
+		File file = new File(System.getProperty("user.dir") + File.separator + SIZES_FILE);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, knownResourceSizes);
+		} catch (IOException e) {
+			logger.warn("⚠️ Could not save resource sizes. Cause: " + e.getMessage());
+		}
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static List<Map<String, Object>> fetchPatterns(NetworkProfile profile) {
+		List<Map<String, Object>> patterns = new ArrayList<>();
+		for (String urlPattern : profile.getBlockedUrlPatterns()) {
+			patterns.add(Map.of("urlPattern", urlPattern, "requestStage", "Request"));
+		}
+		for (String resourceType : profile.getBlockedResourceTypes()) {
+			patterns.add(Map.of("urlPattern", "*", "resourceType", resourceType, "requestStage", "Request"));
+		}
+		return patterns;
+	}
+
+	// CDP expects bytes/second; -1 disables throttling in that direction
+	private static double throughput(int kbps) {
+		return kbps <= 0 ? -1 : kbps * 1000 / 8.0;
+	}
+
+	private static Event<Map<String, Object>> cdpEvent(String method) {
+		return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+	}
+
+	private static void sendQuietly(DevTools devTools, Command<Void> command) {
+		try {
+			devTools.send(command);
+		} catch (Exception e) {
+			logger.debug("CDP command {} failed (page probably navigated away): {}", command.getMethod(), e.getMessage());
+		}
+	}
+
+	// Content-Length of a successful HEAD request, -1 when the server does not tell
+	private static long contentLength(String url) {
+		if (!url.startsWith("http")) {
+			return -1;
+		}
+		try {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+					.method("HEAD", HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build();
+			HttpResponse<Void> response = sizeClient.send(request, HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() / 100 == 2
+					? response.headers().firstValueAsLong("Content-Length").orElse(-1)
+					: -1;
+		} catch (IOException | IllegalArgumentException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+
+	private static Map<String, Long> loadSizes() {
+		Map<String, Long> sizes = new ConcurrentHashMap<>();
+		File file = new File(System.getProperty("user.dir") + File.separator + SIZES_FILE);
+		if (file.exists()) {
+			try {
+				sizes.putAll(mapper.readValue(file, new TypeReference<Map<String, Long>>() {
+				}));
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read resource sizes, starting fresh. Cause: " + e.getMessage());
+			}
+		}
+		return sizes;
+	}
+}
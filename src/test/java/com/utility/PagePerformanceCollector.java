@@ -0,0 +1,171 @@
+package com.utility;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Reads the Navigation / Resource / Paint Timing APIs of a page when it loads
+ * and installs PerformanceObservers for the Web Vitals (LCP, CLS, INP). The
+ * vitals keep accumulating while the test uses the page and are read when the
+ * page is left: the observers flush them to sessionStorage on "pagehide", the
+ * next {@link #capture} picks them up, and {@link #finish} reads the last page
+ * at test end. Vitals of a page left for another origin are not available.
+ *
+ * Records go to MetricsUtility under {@value #CATEGORY}, tagged with the page
+ * object class. Disable with -DcapturePagePerformance=false.
+ */
+public class PagePerformanceCollector {
+
+	private static final Logger logger = LoggerUtility.getLogger(PagePerformanceCollector.class);
+
+	public static final String CATEGORY = "page-performance";
+
+	private static final boolean ENABLED = Boolean
+			.parseBoolean(System.getProperty("capturePagePerformance", "true"));
+
+	// Buffered observers replay the entries that happened before injection;
+	// takeRecords() drains what the async callbacks have not delivered yet.
+	private static final String VITALS_SCRIPT = """
+			var s = window.__sentinelVitals;
+			if (!s) {
+			  s = window.__sentinelVitals = { id: Math.random().toString(36).slice(2), lcp: null, cls: 0, inp: null,
+			      observers: [] };
+			  var observe = function (type, onEntry, extra) {
+			    try {
+			      var o = new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); });
+			      o.observe(Object.assign({ type: type, buffered: true }, extra || {}));
+			      s.observers.push({ observer: o, onEntry: onEntry });
+			    } catch (e) { /* entry type not supported by this browser */ }
+			  };
+			  observe('largest-contentful-paint', function (e) { s.lcp = e.renderTime || e.loadTime || e.startTime; });
+			  observe('layout-shift', function (e) { if (!e.hadRecentInput) { s.cls += e.value; } });
+			  observe('event', function (e) { if (e.interactionId) { s.inp = Math.max(s.inp || 0, e.duration); } },
+			      { durationThreshold: 16 });
+			  s.read = function () {
+			    s.observers.forEach(function (o) { o.observer.takeRecords().forEach(o.onEntry); });
+			    var r = function (v) { return v == null ? null : Math.round(v); };
+			    return { id: s.id, lcpMs: r(s.lcp), cls: Math.round(s.cls * 1000) / 1000, inpMs: r(s.inp) };
+			  };
+			  addEventListener('pagehide', function () {
+			    try { sessionStorage.setItem('__sentinelVitals', JSON.stringify(s.read())); } catch (e) { }
+			  });
+			}
+			var left = null;
+			try {
+			  left = JSON.parse(sessionStorage.getItem('__sentinelVitals'));
+			  sessionStorage.removeItem('__sentinelVitals');
+			} catch (e) { }
+			""";
+
+	private static final String COLLECT_SCRIPT = VITALS_SCRIPT + """
+			var r = function (v) { return v == null ? null : Math.round(v); };
+			var nav = performance.getEntriesByType('navigation')[0] || {};
+			var fcp = performance.getEntriesByName('first-contentful-paint')[0];
+			var resources = performance.getEntriesByType('resource');
+			var transfer = 0, slowest = 0;
+			resources.forEach(function (e) { transfer += e.transferSize || 0; slowest = Math.max(slowest, e.duration); });
+			return {
+			  left: left,
+			  current: s.read(),
+			  timings: {
+			    url: location.href,
+			    navigationType: nav.type || null,
+			    ttfbMs: r(nav.responseStart),
+			    domContentLoadedMs: r(nav.domContentLoadedEventEnd),
+			    loadMs: r(nav.loadEventEnd),
+			    fcpMs: fcp ? r(fcp.startTime) : null,
+			    resources: resources.length,
+			    transferKB: Math.round(transfer / 1024),
+			    slowestResourceMs: r(slowest)
+			  }
+			};
+			""";
+
+	private static final String FINISH_SCRIPT = VITALS_SCRIPT + """
+			return { left: left, current: s.read() };
+			""";
+
+	/** Page loaded on this thread whose vitals are still being gathered. */
+	private record Pending(Class<?> pageClass, String documentId, Map<String, Object> timings) {
+	}
+
+	private static final ThreadLocal<Pending> pending = new ThreadLocal<>();
+
+	private PagePerformanceCollector() {
+	}
+
+	/**
+	 * Records the timings of the page just loaded for the given page object
+	 * class and starts gathering its vitals; completes the previous page's
+	 * record. Never fails the test: performance data is best effort.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void capture(WebDriver driver, Class<?> pageClass) {
+		if (!ENABLED || !(driver instanceof JavascriptExecutor js)) {
+			return;
+		}
+		try {
+			Map<String, Object> result = (Map<String, Object>) js.executeScript(COLLECT_SCRIPT);
+			complete(result);
+			Map<String, Object> current = (Map<String, Object>) result.get("current");
+			pending.set(new Pending(pageClass, (String) current.get("id"),
+					(Map<String, Object>) result.get("timings")));
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not collect page performance for " + pageClass.getSimpleName() + ". Cause: "
+					+ e.getMessage());
+		}
+	}
+
+	/** Completes the record of the page the test ended on (before the browser is closed). */
+	@SuppressWarnings("unchecked")
+	public static void finish(WebDriver driver) {
+		if (pending.get() == null) {
+			return;
+		}
+		try {
+			if (driver instanceof JavascriptExecutor js) {
+				complete((Map<String, Object>) js.executeScript(FINISH_SCRIPT));
+			}
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not read Web Vitals at test end. Cause: " + e.getMessage());
+		} finally {
+			if (pending.get() != null) {
+				complete(null); // browser gone: timings without vitals
+			}
+		}
+	}
+
+	/** Records the pending page with the vitals of whichever document it was: still open or just left. */
+	@SuppressWarnings("unchecked")
+	private static void complete(Map<String, Object> result) {
+		Pending page = pending.get();
+		pending.remove();
+		if (page == null) {
+			return;
+		}
+		Map<String, Object> vitals = null;
+		if (result != null) {
+			for (String key : List.of("current", "left")) {
+				Map<String, Object> candidate = (Map<String, Object>) result.get(key);
+				if (candidate != null && page.documentId().equals(candidate.get("id"))) {
+					vitals = candidate;
+				}
+			}
+		}
+		Map<String, Object> record = new LinkedHashMap<>();
+		record.put("page", page.pageClass().getSimpleName());
+		record.putAll(page.timings());
+		record.put("lcpMs", vitals != null ? vitals.get("lcpMs") : null);
+		record.put("cls", vitals != null ? vitals.get("cls") : null);
+		record.put("inpMs", vitals != null ? vitals.get("inpMs") : null);
+		MetricsUtility.record(CATEGORY, record);
+		logger.info("📈 " + page.pageClass().getSimpleName() + " → TTFB: " + record.get("ttfbMs") + " ms | DCL: "
+				+ record.get("domContentLoadedMs") + " ms | LCP: " + record.get("lcpMs") + " ms | CLS: "
+				+ record.get("cls") + " | INP: " + record.get("inpMs") + " ms");
+	}
+}
@@ -0,0 +1,307 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.markuputils.ExtentColor;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Timing samples of every run (test bodies, page-object steps, element
+ * waits), kept for the last -DbaselineRuns runs in history/perf-samples.json.
+ *
+ * At suite end each metric of this run is compared with the pooled samples
+ * of the previous runs using a two-sided Mann-Whitney U test (no normality
+ * assumption, robust to outliers) plus Cliff's delta as effect size. A metric
+ * is a REGRESSION / IMPROVEMENT only when p &lt; -DbaselineAlpha AND
+ * |delta| &gt;= -DbaselineEffect, so tiny-but-significant shifts are ignored.
+ *
+ * Results go to reports/perf-regression.json ("status": "REGRESSED" or "OK"
+ * for CI gates) and to a dedicated node of the Extent report.
+ */
+public class PerformanceBaselineUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(PerformanceBaselineUtility.class);
+
+	private static final String SAMPLES_FILE = "history" + File.separator + "perf-samples.json";
+	private static final String SUMMARY_FILE = "reports" + File.separator + "perf-regression.json";
+
+	private static final int BASELINE_RUNS = Integer.parseInt(System.getProperty("baselineRuns", "10").trim());
+	private static final double ALPHA = Double.parseDouble(System.getProperty("baselineAlpha", "0.01").trim());
+	private static final double EFFECT = Double.parseDouble(System.getProperty("baselineEffect", "0.33").trim());
+	private static final int MIN_CURRENT = 3;
+	private static final int MIN_BASELINE = 5;
+
+	private static final String RUN_ID = String.valueOf(System.currentTimeMillis());
+
+	/** Samples of one run for one metric. */
+	public record RunSamples(String runId, List<Long> samples) {
+	}
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final Map<String, Queue<Long>> currentRun = new ConcurrentHashMap<>();
+
+	private PerformanceBaselineUtility() {
+	}
+
+	/** Adds a timing sample of this run, e.g. ("step", "doLoginWith", 1830). */
+	public static void addSample(String kind, String name, long durationMs) {
+		currentRun.computeIfAbsent(kind + ":" + name, key -> new ConcurrentLinkedQueue<>()).add(durationMs);
+	}
+
+	/**
+	 * Compares this run with the rolling baseline, publishes the result and
+	 * appends this run's samples to the history store.
+	 */
+	public static synchronized void compareAndSave() {
+		if (currentRun.isEmpty()) {
+			return;
+		}
+		Map<String, List<RunSamples>> store = load();
+
+		List<Map<String, Object>> regressions = new ArrayList<>();
+		List<Map<String, Object>> improvements = new ArrayList<>();
+		int unchanged = 0;
+		int insufficient = 0;
+		for (Map.Entry<String, Queue<Long>> metric : new TreeMap<>(currentRun).entrySet()) {
+			long[] current = metric.getValue().stream().mapToLong(Long::longValue).toArray();
+			long[] baseline = store.getOrDefault(metric.getKey(), List.of()).stream()
+					.filter(run -> !run.runId().equals(RUN_ID)).flatMap(run -> run.samples().stream())
+					.mapToLong(Long::longValue).toArray();
+			if (current.length < MIN_CURRENT || baseline.length < MIN_BASELINE) {
+				insufficient++;
+				continue;
+			}
+			Map<String, Object> row = compare(metric.getKey(), current, baseline);
+			String verdict = (String) row.get("verdict");
+			if (verdict.equals("REGRESSION")) {
+				regressions.add(row);
+			} else if (verdict.equals("IMPROVEMENT")) {
+				improvements.add(row);
+			} else {
+				unchanged++;
+			}
+		}
+
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("status", regressions.isEmpty() ? "OK" : "REGRESSED");
+		summary.put("runId", RUN_ID);
+		summary.put("alpha", ALPHA);
+		summary.put("effectThreshold", EFFECT);
+		summary.put("baselineRuns", BASELINE_RUNS);
+		summary.put("regressions", regressions);
+		summary.put("improvements", improvements);
+		summary.put("unchanged", unchanged);
+		summary.put("insufficientData", insufficient);
+		writeSummary(summary);
+		publishToReport(regressions, improvements, unchanged, insufficient);
+
+		// Append this run and keep the newest BASELINE_RUNS (+ this one) per metric
+		for (Map.Entry<String, Queue<Long>> metric : currentRun.entrySet()) {
+			List<RunSamples> runs = new ArrayList<>(store.getOrDefault(metric.getKey(), List.of()));
+			runs.removeIf(run -> run.runId().equals(RUN_ID));
+			runs.add(new RunSamples(RUN_ID, new ArrayList<>(metric.getValue())));
+			store.put(metric.getKey(), runs.subList(Math.max(0, runs.size() - BASELINE_RUNS - 1), runs.size()));
+		}
+		save(store);
+	}
+
+	// ================================================================================
+	// STATISTICS
+	// ================================================================================
+
+	private static Map<String, Object> compare(String metric, long[] current, long[] baseline) {
+		int n1 = current.length;
+		int n2 = baseline.length;
+		double u = mannWhitneyU(current, baseline);
+		double p = twoSidedP(u, current, baseline);
+		double cliffsDelta = 2 * u / ((double) n1 * n2) - 1; // > 0: this run is slower
+
+		String verdict = "UNCHANGED";
+		if (p < ALPHA && cliffsDelta >= EFFECT) {
+			verdict = "REGRESSION";
+		} else if (p < ALPHA && cliffsDelta <= -EFFECT) {
+			verdict = "IMPROVEMENT";
+		}
+
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("metric", metric);
+		row.put("verdict", verdict);
+		row.put("currentMedianMs", median(current));
+		row.put("baselineMedianMs", median(baseline));
+		row.put("changePct", Math.round((median(current) / Math.max(1, median(baseline)) - 1) * 1000) / 10.0);
+		row.put("pValue", Math.round(p * 10000) / 10000.0);
+		row.put("cliffsDelta", Math.round(cliffsDelta * 100) / 100.0);
+		row.put("currentSamples", n1);
+		row.put("baselineSamples", n2);
+		return row;
+	}
+
+	// U statistic of the current sample (rank sum with averaged ties)
+	private static double mannWhitneyU(long[] current, long[] baseline) {
+		double[] ranks = ranks(current, baseline);
+		double rankSum = 0;
+		for (int i = 0; i < current.length; i++) {
+			rankSum += ranks[i];
+		}
+		return rankSum - current.length * (current.length + 1) / 2.0;
+	}
+
+	// Normal approximation with tie and continuity correction
+	private static double twoSidedP(double u, long[] current, long[] baseline) {
+		int n1 = current.length;
+		int n2 = baseline.length;
+		int n = n1 + n2;
+		long[] all = concat(current, baseline);
+		Arrays.sort(all);
+		double tieTerm = 0;
+		for (int i = 0; i < n;) {
+			int j = i;
+			while (j < n && all[j] == all[i]) {
+				j++;
+			}
+			int t = j - i;
+			tieTerm += (double) t * t * t - t;
+			i = j;
+		}
+		double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+		if (variance <= 0) {
+			return 1.0; // every sample identical
+		}
+		double mean = n1 * (double) n2 / 2.0;
+		double z = (Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+		return Math.min(1.0, 2 * (1 - standardNormalCdf(Math.max(0, z))));
+	}
+
+	private static double[] ranks(long[] current, long[] baseline) {
+		long[] all = concat(current, baseline);
+		Integer[] order = new Integer[all.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(all[a], all[b]));
+		double[] ranks = new double[all.length];
+		for (int i = 0; i < order.length;) {
+			int j = i;
+			while (j < order.length && all[order[j]] == all[order[i]]) {
+				j++;
+			}
+			double averageRank = (i + 1 + j) / 2.0;
+			for (int k = i; k < j; k++) {
+				ranks[order[k]] = averageRank;
+			}
+			i = j;
+		}
+		return ranks;
+	}
+
+	// Abramowitz & Stegun 7.1.26 (error < 1.5e-7)
+	private static double standardNormalCdf(double z) {
+		double x = Math.abs(z) / Math.sqrt(2);
+		double t = 1 / (1 + 0.3275911 * x);
+		double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027
+				+ t * 1.061405429)))) * Math.exp(-x * x);
+		return z >= 0 ? 0.5 * (1 + erf) : 0.5 * (1 - erf);
+	}
+
+	private static double median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int middle = sorted.length / 2;
+		return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+	}
+
+	private static long[] concat(long[] first, long[] second) {
+		long[] all = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, all, first.length, second.length);
+		return all;
+	}
+
+	// ================================================================================
+	// OUTPUT & STORE
+	// ================================================================================
+
+	private static void publishToReport(List<Map<String, Object>> regressions, List<Map<String, Object>> improvements,
+			int unchanged, int insufficient) {
+		logger.info("📉 Baseline comparison: " + regressions.size() + " regression(s), " + improvements.size()
+				+ " improvement(s), " + unchanged + " unchanged, " + insufficient + " without enough data");
+		regressions.forEach(row -> logger.warn("🐢 Regression: " + row));
+		improvements.forEach(row -> logger.info("🚀 Improvement: " + row));
+
+		ExtentReporterUtility.createExtentTest("📉 Performance Baseline Comparison");
+		ExtentReporterUtility.assignCategory("Performance Baseline");
+		if (regressions.isEmpty()) {
+			ExtentReporterUtility.getTest().pass(MarkupHelper.createLabel("No significant regressions", ExtentColor.GREEN));
+		} else {
+			ExtentReporterUtility.getTest().fail(
+					MarkupHelper.createLabel(regressions.size() + " significant regression(s)", ExtentColor.RED));
+			ExtentReporterUtility.getTest().info(MarkupHelper.createTable(toTable(regressions)));
+		}
+		if (!improvements.isEmpty()) {
+			ExtentReporterUtility.getTest().info(MarkupHelper.createLabel("Improvements", ExtentColor.GREEN));
+			ExtentReporterUtility.getTest().info(MarkupHelper.createTable(toTable(improvements)));
+		}
+		ExtentReporterUtility.getTest().info(unchanged + " metric(s) unchanged, " + insufficient
+				+ " without enough samples (need " + MIN_CURRENT + " now / " + MIN_BASELINE + " in the baseline)");
+	}
+
+	private static String[][] toTable(List<Map<String, Object>> rows) {
+		String[] columns = rows.get(0).keySet().toArray(new String[0]);
+		String[][] table = new String[rows.size() + 1][];
+		table[0] = columns;
+		for (int i = 0; i < rows.size(); i++) {
+			Map<String, Object> row = rows.get(i);
+			table[i + 1] = Arrays.stream(columns).map(c -> String.valueOf(row.get(c))).toArray(String[]::new);
+		}
+		return table;
+	}
+
+	private static void writeSummary(Map<String, Object> summary) {
+		File file = new File(System.getProperty("user.dir") + File.separator + SUMMARY_FILE);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, summary);
+			logger.info("📉 Regression summary → " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to write regression summary: " + file.getPath(), e);
+		}
+	}
+
+	private static void save(Map<String, List<RunSamples>> store) {
+		File file = new File(System.getProperty("user.dir") + File.separator + SAMPLES_FILE);
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, store);
+		} catch (IOException e) {
+			logger.error("❌ Failed to write timing samples: " + file.getPath(), e);
+		}
+	}
+
+	private static Map<String, List<RunSamples>> load() {
+		File file = new File(System.getProperty("user.dir") + File.separator + SAMPLES_FILE);
+		Map<String, List<RunSamples>> store = new TreeMap<>();
+		if (file.exists()) {
+			try {
+				store.putAll(mapper.readValue(file, new TypeReference<Map<String, List<RunSamples>>>() {
+				}));
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read timing samples, starting a new baseline. Cause: " + e.getMessage());
+			}
+		}
+		return store;
+	}
+}
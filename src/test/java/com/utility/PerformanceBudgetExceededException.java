@@ -0,0 +1,27 @@
+package com.utility;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Failure raised by TestListener when a test or one of its steps exceeded
+ * its {@code @PerformanceBudget}, or needed more WebDriver commands than the
+ * command budget (CommandAuditUtility). Not retried by MyRetryAnalyzer: a slow
+ * backend does not get faster on the second attempt.
+ */
+public class PerformanceBudgetExceededException extends AssertionError {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<Map<String, Object>> breakdown;
+
+	public PerformanceBudgetExceededException(String message, List<Map<String, Object>> breakdown) {
+		super(message);
+		this.breakdown = List.copyOf(breakdown);
+	}
+
+	/** Every measured step (and the test body) with its budget and verdict. */
+	public List<Map<String, Object>> getBreakdown() {
+		return breakdown;
+	}
+}
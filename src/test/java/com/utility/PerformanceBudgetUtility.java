@@ -0,0 +1,133 @@
+package com.utility;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Logger;
+
+import com.ui.annotations.PerformanceBudget;
+
+/**
+ * Measures the steps declared with {@code @PerformanceBudget} on page-object
+ * methods and checks them, together with the test-level budget, once a test
+ * has passed.
+ *
+ * Steps are kept per thread for the running test ({@link #reset()} is called
+ * by TestBase.setup) and are also shown as "step" spans on the trace timeline.
+ */
+public class PerformanceBudgetUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(PerformanceBudgetUtility.class);
+
+	public static final String CATEGORY = "performance-budget";
+
+	private static final Map<String, Optional<PerformanceBudget>> budgetCache = new ConcurrentHashMap<>();
+
+	private record Measurement(String step, long durationMs, long budgetMs) {
+	}
+
+	private static final ThreadLocal<List<Measurement>> measurements = ThreadLocal.withInitial(ArrayList::new);
+
+	private PerformanceBudgetUtility() {
+	}
+
+	/**
+	 * Runs and measures a page-object step. {@code name} is the page-object
+	 * method's name; its {@code @PerformanceBudget(maxMs)} (if any) is the
+	 * default budget. A name matching no method of {@code pageClass} fails fast.
+	 */
+	public static <T> T step(Class<?> pageClass, String name, Supplier<T> body) {
+		long budgetMs = budgetCache.computeIfAbsent(pageClass.getName() + "#" + name, key -> findBudget(pageClass, name))
+				.map(PerformanceBudget::maxMs).orElse(-1L);
+		long start = System.currentTimeMillis();
+		try {
+			return TraceUtility.span(name, "step").arg("budgetMs", budgetMs).call(body::get);
+		} finally {
+			long durationMs = System.currentTimeMillis() - start;
+			measurements.get().add(new Measurement(name, durationMs, budgetMs));
+			PerformanceBaselineUtility.addSample("step", name, durationMs);
+		}
+	}
+
+	/** Drops the steps of a previous test on this thread. */
+	public static void reset() {
+		measurements.get().clear();
+	}
+
+	/**
+	 * Checks the test body and every measured step against their budgets (step
+	 * budgets on the test method override the page-object ones).
+	 *
+	 * @return the breakdown (one row per step + the test body) when a budget was
+	 *         exceeded, empty otherwise
+	 */
+	public static Optional<PerformanceBudgetExceededException> evaluate(Method testMethod, long testDurationMs) {
+		PerformanceBudget testBudget = testMethod.getAnnotation(PerformanceBudget.class);
+		List<Measurement> steps = new ArrayList<>(measurements.get());
+		measurements.get().clear();
+
+		Map<String, Long> overrides = new LinkedHashMap<>();
+		if (testBudget != null) {
+			for (PerformanceBudget.Step step : testBudget.steps()) {
+				overrides.put(step.name(), step.maxMs());
+			}
+		}
+		if (testBudget == null && steps.stream().noneMatch(m -> m.budgetMs() >= 0)) {
+			return Optional.empty(); // nothing budgeted in this test
+		}
+
+		List<Map<String, Object>> breakdown = new ArrayList<>();
+		List<String> breaches = new ArrayList<>();
+		for (Measurement step : steps) {
+			long budgetMs = overrides.getOrDefault(step.step(), step.budgetMs());
+			addRow(breakdown, breaches, step.step(), step.durationMs(), budgetMs);
+		}
+		addRow(breakdown, breaches, testMethod.getName() + " (test)", testDurationMs,
+				testBudget == null ? -1 : testBudget.maxMs());
+		breakdown.forEach(row -> MetricsUtility.record(CATEGORY, row));
+
+		if (breaches.isEmpty()) {
+			return Optional.empty();
+		}
+		String message = "⏱️ Performance budget exceeded: " + String.join(", ", breaches);
+		logger.error(message);
+		return Optional.of(new PerformanceBudgetExceededException(message, breakdown));
+	}
+
+	private static void addRow(List<Map<String, Object>> breakdown, List<String> breaches, String step, long durationMs,
+			long budgetMs) {
+		boolean exceeded = budgetMs >= 0 && durationMs > budgetMs;
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("step", step);
+		row.put("durationMs", durationMs);
+		row.put("budgetMs", budgetMs < 0 ? "-" : budgetMs);
+		row.put("verdict", budgetMs < 0 ? "not budgeted" : exceeded ? "❌ EXCEEDED" : "✅ within");
+		breakdown.add(row);
+		if (exceeded) {
+			breaches.add(step + " " + durationMs + " ms > " + budgetMs + " ms");
+		}
+	}
+
+	private static Optional<PerformanceBudget> findBudget(Class<?> pageClass, String methodName) {
+		boolean found = false;
+		for (Method method : pageClass.getDeclaredMethods()) {
+			if (method.getName().equals(methodName)) {
+				found = true;
+				if (method.isAnnotationPresent(PerformanceBudget.class)) {
+					return Optional.of(method.getAnnotation(PerformanceBudget.class));
+				}
+			}
+		}
+		if (!found) {
+			throw new RuntimeException("❌ Step '" + methodName + "' is not a method of " + pageClass.getSimpleName()
+					+ " (renamed?)");
+		}
+		return Optional.empty();
+	}
+}
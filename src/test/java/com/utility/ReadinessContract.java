@@ -0,0 +1,178 @@
+package com.utility;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Declares when a page object is "usable": required visible elements, a URL
+ * pattern, and optionally network idle and a JavaScript predicate.
+ *
+ * All CSS / XPath checks run inside the browser in a single async script that
+ * polls every 50 ms, so a ready page costs one round trip instead of one
+ * wait per element.
+ *
+ * <pre>
+ * ReadinessContract.create()
+ *         .urlContains("/login")
+ *         .requireVisible(USER_NAME, PASSWORD)
+ *         .networkIdle(Duration.ofMillis(500))
+ *         .jsPredicate("document.fonts.status === 'loaded'");
+ * </pre>
+ */
+public class ReadinessContract {
+
+	private final List<By> requiredElements = new ArrayList<>();
+	private String urlPattern;
+	private long networkIdleMs;
+	private String jsPredicate;
+
+	private static final String EVALUATE_SCRIPT = """
+			var urlRe = arguments[0] ? new RegExp(arguments[0]) : null;
+			var locators = arguments[1], idleMs = arguments[2], predicate = arguments[3], timeoutMs = arguments[4];
+			var done = arguments[arguments.length - 1];
+			var start = performance.now(), lastCount = -1, lastChange = start;
+			var find = function (l) {
+			  if (l[0] === 'xpath') {
+			    return document.evaluate(l[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+			  }
+			  return document.querySelector(l[1]);
+			};
+			var visible = function (e) {
+			  if (!e || e.getClientRects().length === 0) { return false; }
+			  var style = getComputedStyle(e);
+			  return style.visibility !== 'hidden' && style.display !== 'none';
+			};
+			var check = function () {
+			  var failed = [];
+			  if (urlRe && !urlRe.test(location.href)) { failed.push('url: ' + location.href); }
+			  locators.forEach(function (l) { if (!visible(find(l))) { failed.push(l[0] + ': ' + l[1]); } });
+			  if (predicate) {
+			    try { if (!(new Function('return (' + predicate + ');'))()) { failed.push('predicate: ' + predicate); } }
+			    catch (e) { failed.push('predicate error: ' + e.message); }
+			  }
+			  if (idleMs > 0) {
+			    var count = performance.getEntriesByType('resource').length, now = performance.now();
+			    if (count !== lastCount) { lastCount = count; lastChange = now; }
+			    if (now - lastChange < idleMs) { failed.push('network busy'); }
+			  }
+			  return failed;
+			};
+			(function poll() {
+			  var failed = check();
+			  if (failed.length === 0) { return done({ ready: true, waitedMs: Math.round(performance.now() - start), failed: [] }); }
+			  if (performance.now() - start > timeoutMs) { return done({ ready: false, waitedMs: Math.round(performance.now() - start), failed: failed }); }
+			  setTimeout(poll, 50);
+			})();
+			""";
+
+	/** Outcome of one evaluation. */
+	public record Result(boolean ready, long waitedMs, List<String> failed) {
+	}
+
+	private ReadinessContract() {
+	}
+
+	public static ReadinessContract create() {
+		return new ReadinessContract();
+	}
+
+	public ReadinessContract requireVisible(By... locators) {
+		requiredElements.addAll(List.of(locators));
+		return this;
+	}
+
+	/** A JavaScript regular expression (evaluated in the browser) that location.href must match. */
+	public ReadinessContract urlMatches(String regex) {
+		this.urlPattern = regex;
+		return this;
+	}
+
+	public ReadinessContract urlContains(String text) {
+		// JavaScript escaping: RegExp has no \Q...\E (Pattern.quote)
+		return urlMatches(text.replaceAll("[.*+?^${}()|\\[\\]\\\\/]", "\\\\$0"));
+	}
+
+	/** No new resource requests for the given quiet period. */
+	public ReadinessContract networkIdle(Duration quietPeriod) {
+		this.networkIdleMs = quietPeriod.toMillis();
+		return this;
+	}
+
+	/** A JavaScript expression that must evaluate to a truthy value. */
+	public ReadinessContract jsPredicate(String expression) {
+		this.jsPredicate = expression;
+		return this;
+	}
+
+	public List<By> getRequiredElements() {
+		return List.copyOf(requiredElements);
+	}
+
+	/**
+	 * Waits until the contract holds or the timeout expires. The session's script
+	 * timeout must be longer than {@code timeout} (set by BrowserUtility).
+	 */
+	@SuppressWarnings("unchecked")
+	public Result evaluate(WebDriver driver, Duration timeout) {
+		List<List<String>> browserLocators = new ArrayList<>();
+		List<By> driverLocators = new ArrayList<>();
+		for (By locator : requiredElements) {
+			if (locator instanceof By.Remotable remotable
+					&& ("css selector".equals(remotable.getRemoteParameters().using())
+							|| "xpath".equals(remotable.getRemoteParameters().using()))) {
+				browserLocators.add(List.of(remotable.getRemoteParameters().using(),
+						String.valueOf(remotable.getRemoteParameters().value())));
+			} else {
+				driverLocators.add(locator); // link text etc. have no direct DOM API
+			}
+		}
+
+		long deadline = System.currentTimeMillis() + timeout.toMillis();
+		long start = System.currentTimeMillis();
+		Map<String, Object> outcome = null;
+		while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+			try {
+				outcome = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(EVALUATE_SCRIPT,
+						urlPattern, browserLocators, networkIdleMs, jsPredicate,
+						Math.max(0, deadline - System.currentTimeMillis()));
+				break;
+			} catch (ScriptTimeoutException e) {
+				return new Result(false, System.currentTimeMillis() - start, List.of("script timeout"));
+			} catch (WebDriverException e) {
+				// The document was replaced while polling (navigation in progress): evaluate again
+				sleepQuietly(100);
+			}
+		}
+		if (outcome == null) {
+			return new Result(false, System.currentTimeMillis() - start, List.of("page kept navigating"));
+		}
+
+		List<String> failed = new ArrayList<>((List<String>) outcome.get("failed"));
+		if (Boolean.TRUE.equals(outcome.get("ready"))) {
+			for (By locator : driverLocators) {
+				List<WebElement> found = driver.findElements(locator);
+				if (found.isEmpty() || !found.get(0).isDisplayed()) {
+					failed.add(locator.toString());
+				}
+			}
+		}
+		return new Result(failed.isEmpty(), System.currentTimeMillis() - start, failed);
+	}
+
+	private static void sleepQuietly(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
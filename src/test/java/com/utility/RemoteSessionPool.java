@@ -0,0 +1,165 @@
+package com.utility;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+
+import com.aventstack.extentreports.Status;
+import com.constants.Browser;
+
+/**
+ * Creates remote sessions through a {@link RemoteSessionProvider} and keeps a
+ * small pool of idle sessions so the next test can reuse them instead of
+ * paying for a new session.
+ *
+ * -DremotePoolSize=N : idle sessions kept per browser (0 disables reuse)
+ * -DremoteIdleTimeoutSec=N : idle sessions older than this are quit
+ */
+public class RemoteSessionPool {
+
+	private static final Logger logger = LoggerUtility.getLogger(RemoteSessionPool.class);
+
+	private static final int POOL_SIZE = Integer.parseInt(System.getProperty("remotePoolSize", "3"));
+	private static final long IDLE_TIMEOUT_MS = Long.parseLong(System.getProperty("remoteIdleTimeoutSec", "60")) * 1000;
+
+	private static final RemoteSessionProvider provider = RemoteSessionProvider.fromConfig();
+
+	// One tuned client config shared by every session
+	private static final ClientConfig CLIENT_CONFIG = ClientConfig.defaultConfig()
+			.baseUrl(provider.hubUrl())
+			.connectionTimeout(Duration.ofSeconds(30))
+			.readTimeout(Duration.ofMinutes(3));
+
+	private static final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+	private static final Map<WebDriver, String> leasedSessions = new ConcurrentHashMap<>();
+
+	private record PooledSession(RemoteWebDriver driver, long idleSince) {
+	}
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(RemoteSessionPool::shutdown, "remote-pool-shutdown"));
+	}
+
+	private RemoteSessionPool() {
+	}
+
+	/**
+	 * Returns an idle pooled session for this browser, or creates a new one.
+	 */
+	public static WebDriver lease(Browser browserName, String testName, boolean isHeadLess) {
+		String key = provider.name() + ":" + browserName + ":" + (isHeadLess ? "headless" : "headed");
+		Deque<PooledSession> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+
+		PooledSession pooled;
+		while ((pooled = idle.pollFirst()) != null) {
+			if (System.currentTimeMillis() - pooled.idleSince() > IDLE_TIMEOUT_MS) {
+				quitQuietly(pooled.driver());
+				continue;
+			}
+			try {
+				provider.onLease(pooled.driver(), testName);
+				timing(pooled.driver()).resetCommandStats();
+				leasedSessions.put(pooled.driver(), key);
+				logger.info("♻️  Reusing pooled " + provider.name() + " session: " + pooled.driver().getSessionId());
+				return pooled.driver();
+			} catch (Exception e) {
+				logger.warn("⚠️ Pooled session is gone, discarding it. Cause: " + e.getMessage());
+				quitQuietly(pooled.driver());
+			}
+		}
+
+		RemoteWebDriver driver = create(browserName, testName, isHeadLess);
+		leasedSessions.put(driver, key);
+		return driver;
+	}
+
+	/**
+	 * Puts a leased session back into the pool after clearing its state.
+	 *
+	 * @return true if the session was pooled, false if the caller must quit it
+	 */
+	public static boolean release(WebDriver driver) {
+		String key = leasedSessions.remove(driver);
+		if (key == null || !(driver instanceof RemoteWebDriver remoteDriver)) {
+			return false;
+		}
+		logCommandStats(remoteDriver);
+
+		Deque<PooledSession> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+		if (idle.size() >= POOL_SIZE) {
+			return false;
+		}
+		try {
+			if (driver.getWindowHandles().size() > 1) {
+				return false; // cheaper to start over than to clean up extra windows
+			}
+			driver.manage().deleteAllCookies();
+			((JavascriptExecutor) driver).executeScript("try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}");
+			driver.get("about:blank");
+			idle.addLast(new PooledSession(remoteDriver, System.currentTimeMillis()));
+			logger.info("♻️  Session returned to pool: " + remoteDriver.getSessionId());
+			return true;
+		} catch (Exception e) {
+			logger.warn("⚠️ Could not reset session for reuse. Cause: " + e.getMessage());
+			return false;
+		}
+	}
+
+	public static void shutdown() {
+		idleSessions.values().forEach(idle -> {
+			PooledSession pooled;
+			while ((pooled = idle.pollFirst()) != null) {
+				quitQuietly(pooled.driver());
+			}
+		});
+		SharedHttpClientFactory.getInstance().shutdown();
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static RemoteWebDriver create(Browser browserName, String testName, boolean isHeadLess) {
+		Capabilities capabilities = provider.capabilities(browserName, testName, isHeadLess);
+		logger.info("☁️  Connecting to " + provider.name() + " hub: " + CLIENT_CONFIG.baseUrl());
+
+		TimedCommandExecutor executor = new TimedCommandExecutor(
+				new HttpCommandExecutor(Map.of(), CLIENT_CONFIG, SharedHttpClientFactory.getInstance()));
+		RemoteWebDriver driver = new RemoteWebDriver(executor, capabilities);
+
+		logger.info("⏱️  Remote session created in " + executor.getSessionCreationMs() + " ms");
+		ExtentReporterUtility.log(Status.INFO,
+				"Remote session creation: <b>" + executor.getSessionCreationMs() + " ms</b>");
+		return driver;
+	}
+
+	private static void logCommandStats(RemoteWebDriver driver) {
+		TimedCommandExecutor executor = timing(driver);
+		String stats = String.format("Remote commands: %d | avg RTT: %.1f ms | max RTT: %.1f ms",
+				executor.getCommandCount(), executor.getAverageRttMs(), executor.getMaxRttMs());
+		logger.info("📡 " + stats);
+		ExtentReporterUtility.log(Status.INFO, stats);
+	}
+
+	private static TimedCommandExecutor timing(RemoteWebDriver driver) {
+		return (TimedCommandExecutor) driver.getCommandExecutor();
+	}
+
+	private static void quitQuietly(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			logger.warn("⚠️ Failed to quit idle session. Cause: " + e.getMessage());
+		}
+	}
+}
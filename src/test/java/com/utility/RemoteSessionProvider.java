@@ -0,0 +1,53 @@
+package com.utility;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+
+import com.constants.Browser;
+
+/**
+ * Pluggable source of remote WebDriver sessions (LambdaTest, Selenium Grid,
+ * ...). Selected with -DremoteProvider=lambdatest|grid; the hub can always be
+ * overridden with -DhubUrl=...
+ */
+public interface RemoteSessionProvider {
+
+	String name();
+
+	/** Hub used when -DhubUrl is not set. */
+	String defaultHubUrl();
+
+	Capabilities capabilities(Browser browserName, String testName, boolean isHeadLess);
+
+	/**
+	 * Called every time a (possibly reused) session is handed to a test, e.g. to
+	 * rename the cloud session.
+	 */
+	default void onLease(WebDriver driver, String testName) {
+	}
+
+	default URL hubUrl() {
+		String hub = System.getProperty("hubUrl", "");
+		if (hub.isBlank()) {
+			hub = defaultHubUrl();
+		}
+		try {
+			return URI.create(hub).toURL();
+		} catch (MalformedURLException | IllegalArgumentException e) {
+			throw new RuntimeException("❌ Invalid hub URL: " + hub, e);
+		}
+	}
+
+	static RemoteSessionProvider fromConfig() {
+		String provider = System.getProperty("remoteProvider", "lambdatest");
+		return switch (provider.trim().toLowerCase()) {
+		case "grid", "local", "selenium-grid" -> new GridSessionProvider();
+		case "lambdatest", "lt", "" -> new LambdaTestSessionProvider();
+		default -> throw new IllegalArgumentException("❌ Unknown remoteProvider: " + provider);
+		};
+	}
+}
@@ -0,0 +1,341 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Background sampler of the browser process tree behind each local session
+ * (opt-in: -DresourceSampler=true, Linux only: reads /proc).
+ *
+ * A session's tree is found once, from its capabilities: Chrome's user data
+ * dir (matched against /proc/&lt;pid&gt;/cmdline) or Firefox's moz:processID.
+ * Every -DresourceSampleMs the whole tree (renderers, GPU process, ... and
+ * the driver process when it is not shared) is read: CPU time, RSS and
+ * process count. Together with JVM heap / GC / thread stats this becomes the
+ * "resources" metrics row of the test using the session. Sessions whose RSS
+ * keeps climbing (at least -DresourceGrowthMbPerMin) are flagged.
+ */
+public class ResourceSampler {
+
+	private static final Logger logger = LoggerUtility.getLogger(ResourceSampler.class);
+
+	public static final String CATEGORY = "resources";
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("resourceSampler", "false"))
+			&& new File("/proc/self/stat").exists();
+	private static final long SAMPLE_MS = Long.parseLong(System.getProperty("resourceSampleMs", "1000").trim());
+	private static final double GROWTH_MB_PER_MIN = Double
+			.parseDouble(System.getProperty("resourceGrowthMbPerMin", "20").trim());
+	private static final int MIN_GROWTH_SAMPLES = 5;
+	private static final double TICKS_PER_SECOND = 100; // USER_HZ, 100 on Linux
+
+	private static final class Session {
+		private final String name;
+		private final long rootPid;
+		private final long driverPid; // -1 when the driver service is shared by all sessions
+		private final long start = System.currentTimeMillis();
+		private final long gcCountAtStart = gcCount();
+		private final long gcMsAtStart = gcMs();
+		// guarded by the session
+		private final Map<Long, Long> cpuTicksByPid = new HashMap<>();
+		private final List<double[]> rssSamples = new ArrayList<>(); // {seconds since start, MB}
+		private int peakProcesses;
+		private double peakRssMb;
+		private boolean gone;
+
+		private Session(String name, long rootPid, long driverPid) {
+			this.name = name;
+			this.rootPid = rootPid;
+			this.driverPid = driverPid;
+		}
+	}
+
+	private static final Map<Long, Session> sessions = new ConcurrentHashMap<>(); // by test thread id
+	private static final AtomicInteger sampledSessions = new AtomicInteger();
+	private static final AtomicInteger growingSessions = new AtomicInteger();
+	private static final AtomicLong ticks = new AtomicLong();
+	private static final AtomicLong tickNanos = new AtomicLong();
+	private static ScheduledExecutorService sampler;
+
+	private ResourceSampler() {
+	}
+
+	/** Starts sampling the local browser behind this thread's new session. */
+	public static void register(String name, WebDriver driver) {
+		if (!ENABLED || !(driver instanceof HasCapabilities hasCapabilities)) {
+			return;
+		}
+		unregister(); // previous session on this thread that was not quit
+		try {
+			Optional<Long> root = findBrowserRoot(hasCapabilities.getCapabilities());
+			if (root.isEmpty()) {
+				logger.debug("No local browser process found for {}: not sampled", name);
+				return;
+			}
+			long driverPid = -1;
+			if (!DriverServiceManager.isEnabled()) {
+				driverPid = ProcessHandle.of(root.get()).flatMap(ProcessHandle::parent).map(ProcessHandle::pid)
+						.filter(pid -> cmdline(pid).matches("(?s).*(chromedriver|geckodriver).*")).orElse(-1L);
+			}
+			sessions.put(Thread.currentThread().threadId(), new Session(name, root.get(), driverPid));
+			sampledSessions.incrementAndGet();
+			startSampler();
+		} catch (RuntimeException e) {
+			logger.debug("Resource sampling not started for {}: {}", name, e.getMessage());
+		}
+	}
+
+	/**
+	 * Records the "resources" row of the test running on this thread (its
+	 * session is kept until {@link #unregister()}).
+	 */
+	public static void evaluate(String testName) {
+		Session session = sessions.get(Thread.currentThread().threadId());
+		if (session == null) {
+			return;
+		}
+		Map<String, Object> values = summarize(session);
+		MetricsUtility.record(CATEGORY, values);
+		String summary = "🧮 " + testName + ": browser CPU " + values.get("cpuSec") + " s, peak RSS "
+				+ values.get("peakRssMb") + " MB, " + values.get("peakProcesses") + " process(es)";
+		if (Boolean.TRUE.equals(values.get("growing"))) {
+			logger.warn(summary + " — footprint keeps growing (" + values.get("rssGrowthMbPerMin") + " MB/min)");
+		} else {
+			logger.info(summary);
+		}
+	}
+
+	/** Stops sampling this thread's session (before its browser is quit). */
+	public static void unregister() {
+		Session session = sessions.remove(Thread.currentThread().threadId());
+		if (session == null) {
+			return;
+		}
+		Map<String, Object> values = summarize(session);
+		if (Boolean.TRUE.equals(values.get("growing"))) {
+			growingSessions.incrementAndGet();
+			logger.warn("📈 Session of " + session.name + " grew " + values.get("rssGrowthMbPerMin")
+					+ " MB/min over " + values.get("sessionSec") + " s (peak RSS " + values.get("peakRssMb") + " MB)");
+		}
+	}
+
+	/** Sampler cost and growing sessions (end of suite). */
+	public static void logSummary() {
+		if (sampledSessions.get() == 0) {
+			return;
+		}
+		long tickCount = Math.max(1, ticks.get());
+		logger.info("🧮 Resource sampler: " + sampledSessions.get() + " session(s), " + ticks.get()
+				+ " sample(s), " + String.format("%.2f", tickNanos.get() / 1e6 / tickCount) + " ms per sample, "
+				+ growingSessions.get() + " session(s) with a growing footprint");
+	}
+
+	// ================================================================================
+	// SAMPLING
+	// ================================================================================
+
+	private static synchronized void startSampler() {
+		if (sampler != null) {
+			return;
+		}
+		sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "resource-sampler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		sampler.scheduleAtFixedRate(ResourceSampler::sample, 0, SAMPLE_MS, TimeUnit.MILLISECONDS);
+		logger.info("🧮 Resource sampler started (every " + SAMPLE_MS + " ms)");
+	}
+
+	// One pass over /proc/<pid>/stat serves every session's tree
+	private static void sample() {
+		if (sessions.isEmpty()) {
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			Map<Long, List<Long>> children = new HashMap<>();
+			Map<Long, Long> cpuTicks = new HashMap<>();
+			File[] entries = new File("/proc").listFiles((dir, name) -> name.chars().allMatch(Character::isDigit));
+			for (File entry : entries == null ? new File[0] : entries) {
+				String[] stat = stat(Long.parseLong(entry.getName()));
+				if (stat != null) {
+					long pid = Long.parseLong(entry.getName());
+					children.computeIfAbsent(Long.parseLong(stat[1]), p -> new ArrayList<>()).add(pid);
+					cpuTicks.put(pid, Long.parseLong(stat[11]) + Long.parseLong(stat[12])); // utime + stime
+				}
+			}
+			for (Session session : sessions.values()) {
+				sample(session, children, cpuTicks);
+			}
+		} catch (RuntimeException e) {
+			logger.debug("Resource sample failed: {}", e.getMessage());
+		} finally {
+			ticks.incrementAndGet();
+			tickNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	private static void sample(Session session, Map<Long, List<Long>> children, Map<Long, Long> cpuTicks) {
+		if (!cpuTicks.containsKey(session.rootPid)) {
+			session.gone = true;
+			return;
+		}
+		List<Long> tree = new ArrayList<>();
+		tree.add(session.rootPid);
+		for (int i = 0; i < tree.size(); i++) {
+			tree.addAll(children.getOrDefault(tree.get(i), List.of()));
+		}
+		if (session.driverPid > 0 && cpuTicks.containsKey(session.driverPid)) {
+			tree.add(session.driverPid);
+		}
+		double rssMb = 0;
+		for (long pid : tree) {
+			rssMb += rssKb(pid) / 1024.0;
+		}
+		synchronized (session) {
+			for (long pid : tree) {
+				session.cpuTicksByPid.merge(pid, cpuTicks.getOrDefault(pid, 0L), Math::max); // exited pids keep their time
+			}
+			session.rssSamples.add(new double[] { (System.currentTimeMillis() - session.start) / 1000.0, rssMb });
+			session.peakRssMb = Math.max(session.peakRssMb, rssMb);
+			session.peakProcesses = Math.max(session.peakProcesses, tree.size());
+		}
+	}
+
+	private static Map<String, Object> summarize(Session session) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		synchronized (session) {
+			long cpu = session.cpuTicksByPid.values().stream().mapToLong(Long::longValue).sum();
+			double seconds = (System.currentTimeMillis() - session.start) / 1000.0;
+			double slope = slopeMbPerMin(session.rssSamples);
+			values.put("sessionSec", round(seconds));
+			values.put("cpuSec", round(cpu / TICKS_PER_SECOND));
+			values.put("cpuPercent", round(seconds > 0 ? cpu / TICKS_PER_SECOND / seconds * 100 : 0));
+			values.put("peakRssMb", round(session.peakRssMb));
+			values.put("peakProcesses", session.peakProcesses);
+			values.put("samples", session.rssSamples.size());
+			values.put("rssGrowthMbPerMin", round(slope));
+			values.put("growing", session.rssSamples.size() >= MIN_GROWTH_SAMPLES && slope >= GROWTH_MB_PER_MIN);
+			values.put("browserExited", session.gone);
+		}
+		Runtime runtime = Runtime.getRuntime();
+		values.put("jvmHeapUsedMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+		values.put("jvmGcCount", gcCount() - session.gcCountAtStart); // JVM-wide, shared with parallel tests
+		values.put("jvmGcMs", gcMs() - session.gcMsAtStart);
+		values.put("jvmThreads", ManagementFactory.getThreadMXBean().getThreadCount());
+		return values;
+	}
+
+	// Least-squares slope of RSS over time
+	private static double slopeMbPerMin(List<double[]> samples) {
+		int n = samples.size();
+		if (n < 2) {
+			return 0;
+		}
+		double meanT = 0;
+		double meanMb = 0;
+		for (double[] sample : samples) {
+			meanT += sample[0] / n;
+			meanMb += sample[1] / n;
+		}
+		double covariance = 0;
+		double variance = 0;
+		for (double[] sample : samples) {
+			covariance += (sample[0] - meanT) * (sample[1] - meanMb);
+			variance += (sample[0] - meanT) * (sample[0] - meanT);
+		}
+		return variance == 0 ? 0 : covariance / variance * 60;
+	}
+
+	// ================================================================================
+	// /proc
+	// ================================================================================
+
+	// Chrome: the process started with this session's --user-data-dir whose parent was not; Firefox: moz:processID
+	static Optional<Long> findBrowserRoot(Capabilities capabilities) {
+		Object firefoxPid = capabilities.getCapability("moz:processID");
+		if (firefoxPid instanceof Number pid) {
+			return Optional.of(pid.longValue());
+		}
+		if (!(capabilities.getCapability("chrome") instanceof Map<?, ?> chrome)
+				|| !(chrome.get("userDataDir") instanceof String userDataDir)) {
+			return Optional.empty();
+		}
+		String marker = "--user-data-dir=" + userDataDir;
+		Set<Long> matching = ConcurrentHashMap.newKeySet();
+		ProcessHandle.allProcesses().filter(process -> cmdline(process.pid()).contains(marker))
+				.forEach(process -> matching.add(process.pid()));
+		return matching.stream().filter(pid -> ProcessHandle.of(pid).flatMap(ProcessHandle::parent)
+				.map(parent -> !matching.contains(parent.pid())).orElse(true)).findFirst();
+	}
+
+	static String cmdline(long pid) {
+		try {
+			return new String(Files.readAllBytes(Path.of("/proc", String.valueOf(pid), "cmdline")),
+					StandardCharsets.UTF_8).replace('\0', ' ');
+		} catch (IOException e) {
+			return "";
+		}
+	}
+
+	// Fields after "(comm)": [0]=state, [1]=ppid, ... [11]=utime, [12]=stime
+	private static String[] stat(long pid) {
+		try {
+			String stat = Files.readString(Path.of("/proc", String.valueOf(pid), "stat"));
+			return stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+		} catch (IOException | RuntimeException e) {
+			return null; // exited meanwhile
+		}
+	}
+
+	private static long rssKb(long pid) {
+		try {
+			for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+				if (line.startsWith("VmRSS:")) {
+					return Long.parseLong(line.replaceAll("\\D", ""));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// exited meanwhile
+		}
+		return 0;
+	}
+
+	private static long gcCount() {
+		return ManagementFactory.getGarbageCollectorMXBeans().stream()
+				.mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+	}
+
+	private static long gcMs() {
+		return ManagementFactory.getGarbageCollectorMXBeans().stream()
+				.mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(ms -> ms > 0).sum();
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+}
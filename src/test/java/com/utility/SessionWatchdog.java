@@ -0,0 +1,352 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Frees TestNG workers pinned by a hung WebDriver call (opt-in: -Dwatchdog=true).
+ *
+ * Every command of a guarded driver runs with a deadline
+ * (-DcommandDeadlineSec). When it passes, the watchdog force-kills the
+ * session's local browser process tree (found like ResourceSampler does) and
+ * interrupts the test thread: the pending call fails, the test fails and the
+ * worker moves on. Remote sessions and shared BiDi browsers are only
+ * interrupted.
+ *
+ * Opt-in reaper (-DreapOrphans=true): every run records the driver and
+ * browser processes it starts (history/processes/&lt;pid&gt;.json); at suite
+ * start, the recorded processes of runs whose JVM is gone are killed, as are
+ * orphaned browsers on a profile under sentinel-profiles. Nothing else is
+ * touched: other jobs' and tools' browsers, live runs and the BrowserDaemon
+ * are skipped.
+ */
+public class SessionWatchdog {
+
+	private static final Logger logger = LoggerUtility.getLogger(SessionWatchdog.class);
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("watchdog", "false"));
+	private static final long DEADLINE_MS = Long.parseLong(System.getProperty("commandDeadlineSec", "120").trim())
+			* 1000;
+	private static final boolean REAP = Boolean.parseBoolean(System.getProperty("reapOrphans", "false"));
+
+	private static final String REGISTRY_DIR = "history" + File.separator + "processes";
+
+	private static final Pattern DRIVER = Pattern.compile("(?:^|/)(chromedriver|geckodriver)(?:\\.exe)?(?:\\s|$)");
+	// Browser helper processes (renderers, GPU, content processes): killed with their main process
+	private static final Pattern HELPER_PROCESS = Pattern.compile("--type=|-contentproc");
+	// Orphans are re-parented to init (or a subreaper such as systemd --user)
+	private static final Pattern ADOPTER = Pattern.compile("^(\\S*/)?(systemd|init|tini|docker-init|launchd)\\b");
+
+	/** Command in progress on a test thread. */
+	private static final class InFlight {
+		private final Thread thread;
+		private final Guard guard;
+		private final String command;
+		private final long deadline;
+		private volatile boolean fired;
+
+		private InFlight(Thread thread, Guard guard, String command) {
+			this.thread = thread;
+			this.guard = guard;
+			this.command = command;
+			this.deadline = System.currentTimeMillis() + DEADLINE_MS;
+		}
+	}
+
+	private static final Map<Thread, InFlight> inFlight = new ConcurrentHashMap<>();
+	private static final AtomicInteger hungCommands = new AtomicInteger();
+	private static final AtomicInteger killedProcesses = new AtomicInteger();
+	private static ScheduledExecutorService ticker;
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final Map<Long, Instant> tracked = new ConcurrentHashMap<>(); // processes this JVM started
+
+	static {
+		if (REAP) {
+			// A clean exit leaves nothing behind to reap
+			Runtime.getRuntime().addShutdownHook(new Thread(SessionWatchdog::deleteRegistry, "reaper-registry"));
+		}
+	}
+
+	private SessionWatchdog() {
+	}
+
+	/** Returns the driver with every command under the deadline (the driver itself when disabled). */
+	public static WebDriver guard(WebDriver driver, String testName) {
+		if (!ENABLED || driver == null) {
+			return driver;
+		}
+		startTicker();
+		return new EventFiringDecorator<>(new Guard(driver, testName)).decorate(driver);
+	}
+
+	/** Hung commands of the run (end of suite). */
+	public static void logSummary() {
+		if (hungCommands.get() > 0) {
+			logger.warn("⏱️ Watchdog: " + hungCommands.get() + " hung command(s) aborted, " + killedProcesses.get()
+					+ " browser process(es) killed");
+		}
+	}
+
+	/**
+	 * Listener attached to each guarded driver. Public only because
+	 * EventFiringDecorator invokes it reflectively.
+	 */
+	public static final class Guard implements WebDriverListener {
+		private final WebDriver driver; // undecorated: its capabilities are read without a browser round trip
+		private final String testName;
+		private final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+
+		private Guard(WebDriver driver, String testName) {
+			this.driver = driver;
+			this.testName = testName;
+		}
+
+		@Override
+		public void beforeAnyCall(Object target, Method method, Object[] args) {
+			int current = depth.get();
+			depth.set(current + 1);
+			if (current == 0) {
+				inFlight.put(Thread.currentThread(), new InFlight(Thread.currentThread(), this, method.getName()));
+			}
+		}
+
+		@Override
+		public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+			end();
+		}
+
+		@Override
+		public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+			end();
+		}
+
+		private void end() {
+			int current = depth.get() - 1;
+			depth.set(Math.max(current, 0));
+			if (current > 0) {
+				return;
+			}
+			InFlight command = inFlight.remove(Thread.currentThread());
+			if (command != null && command.fired) {
+				Thread.interrupted(); // the worker is free again: don't leak the interrupt into the next test
+				ExtentReporterUtility.log(Status.WARNING, "⏱️ Watchdog: <b>" + command.command
+						+ "</b> hung for more than " + DEADLINE_MS / 1000 + "s; the browser was killed");
+			}
+		}
+	}
+
+	// ================================================================================
+	// DEADLINES
+	// ================================================================================
+
+	private static synchronized void startTicker() {
+		if (ticker != null) {
+			return;
+		}
+		ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "session-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ticker.scheduleWithFixedDelay(SessionWatchdog::check, 1, 1, TimeUnit.SECONDS);
+	}
+
+	private static void check() {
+		long now = System.currentTimeMillis();
+		for (InFlight command : inFlight.values()) {
+			if (!command.fired && now >= command.deadline) {
+				command.fired = true;
+				try {
+					abort(command);
+				} catch (RuntimeException e) {
+					logger.warn("⚠️ Watchdog could not abort '" + command.command + "'. Cause: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	private static void abort(InFlight command) {
+		hungCommands.incrementAndGet();
+		Optional<Long> root = BrowserContextPool.isEnabled() ? Optional.empty() // shared by other tests
+				: command.guard.driver instanceof HasCapabilities hasCapabilities
+						? ResourceSampler.findBrowserRoot(hasCapabilities.getCapabilities())
+						: Optional.empty();
+		int killed = root.flatMap(ProcessHandle::of).map(SessionWatchdog::killTree).orElse(0);
+		killedProcesses.addAndGet(killed);
+		logger.error("⏱️💀 Hung command '" + command.command + "' of " + command.guard.testName + " passed its "
+				+ DEADLINE_MS / 1000 + "s deadline on " + command.thread.getName() + ": "
+				+ (killed > 0 ? "killed the browser (" + killed + " process(es)), " : "no local browser to kill, ")
+				+ "interrupting the test thread");
+		command.thread.interrupt();
+	}
+
+	private static int killTree(ProcessHandle root) {
+		List<ProcessHandle> tree = new ArrayList<>(root.descendants().toList());
+		tree.add(root);
+		tree.forEach(ProcessHandle::destroyForcibly);
+		return tree.size();
+	}
+
+	// ================================================================================
+	// ORPHAN REAPER
+	// ================================================================================
+
+	/**
+	 * Records the local processes behind a new session (the driver processes
+	 * this JVM started and the session's browser) so a later run can reap them
+	 * if this one crashes. No-op unless -DreapOrphans=true.
+	 */
+	public static void track(WebDriver driver) {
+		if (!REAP || !(CommandAuditUtility.unwrap(driver) instanceof HasCapabilities hasCapabilities)) {
+			return;
+		}
+		List<ProcessHandle> processes = new ArrayList<>(ProcessHandle.current().children()
+				.filter(child -> DRIVER.matcher(ResourceSampler.cmdline(child.pid())).find()).toList());
+		ResourceSampler.findBrowserRoot(hasCapabilities.getCapabilities()).flatMap(ProcessHandle::of)
+				.ifPresent(processes::add);
+		boolean added = false;
+		for (ProcessHandle process : processes) {
+			added |= process.info().startInstant().map(started -> tracked.putIfAbsent(process.pid(), started) == null)
+					.orElse(false);
+		}
+		if (added) {
+			saveRegistry();
+		}
+	}
+
+	/**
+	 * Kills process trees this framework started in earlier runs whose JVM is
+	 * gone: the pids recorded by {@link #track}, and orphaned browsers running
+	 * on a profile under {@link LaunchProfileUtility#PROFILES_ROOT}. Opt-in
+	 * (-DreapOrphans=true); processes of live runs and of the running
+	 * BrowserDaemon are never touched.
+	 */
+	public static void reapOrphans() {
+		if (!REAP) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		long daemon = BrowserDaemon.daemonPid();
+		Map<Long, ProcessHandle> roots = new LinkedHashMap<>();
+		recordedOrphans().forEach(process -> roots.put(process.pid(), process));
+		ProcessHandle.allProcesses().filter(SessionWatchdog::isOrphanedProfileBrowser)
+				.forEach(process -> roots.putIfAbsent(process.pid(), process));
+		int processes = 0;
+		for (ProcessHandle root : roots.values()) {
+			if (root.pid() == ProcessHandle.current().pid() || hasAncestor(ProcessHandle.current(), root.pid())
+					|| hasAncestor(root, ProcessHandle.current().pid()) || hasAncestor(root, daemon)) {
+				continue;
+			}
+			logger.info("   → " + root.pid() + ": " + abbreviate(ResourceSampler.cmdline(root.pid())));
+			processes += killTree(root);
+		}
+		if (processes > 0) {
+			logger.warn("🧹 Reaped " + processes + " browser/driver process(es) left by earlier runs in "
+					+ (System.currentTimeMillis() - start) + " ms");
+		}
+	}
+
+	// Recorded by runs whose JVM is gone; a pid counts only while its start time still matches (no pid reuse)
+	private static List<ProcessHandle> recordedOrphans() {
+		File[] files = new File(System.getProperty("user.dir") + File.separator + REGISTRY_DIR)
+				.listFiles((dir, name) -> name.endsWith(".json"));
+		List<ProcessHandle> orphans = new ArrayList<>();
+		for (File file : files == null ? new File[0] : files) {
+			try {
+				Registry registry = mapper.readValue(file, Registry.class);
+				if (isAlive(registry.jvmPid, registry.jvmStart)) {
+					continue; // a run in progress
+				}
+				registry.processes.forEach((pid, started) -> ProcessHandle.of(pid)
+						.filter(process -> isAlive(pid, started)).ifPresent(orphans::add));
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read " + file.getName() + ". Cause: " + e.getMessage());
+			}
+		}
+		return orphans;
+	}
+
+	// An automation browser on one of our profile directories whose driver is gone (re-parented to init)
+	private static boolean isOrphanedProfileBrowser(ProcessHandle process) {
+		String cmdline = ResourceSampler.cmdline(process.pid());
+		if (!cmdline.contains(LaunchProfileUtility.PROFILES_ROOT) || HELPER_PROCESS.matcher(cmdline).find()) {
+			return false;
+		}
+		return process.parent()
+				.map(parent -> parent.pid() == 1 || ADOPTER.matcher(ResourceSampler.cmdline(parent.pid())).find())
+				.orElse(true);
+	}
+
+	/** Processes started by one JVM (history/processes/&lt;pid&gt;.json). */
+	private static final class Registry {
+		public long jvmPid;
+		public long jvmStart;
+		public Map<Long, Long> processes = new LinkedHashMap<>(); // pid -> start (epoch ms)
+	}
+
+	private static synchronized void saveRegistry() {
+		Registry registry = new Registry();
+		registry.jvmPid = ProcessHandle.current().pid();
+		registry.jvmStart = ProcessHandle.current().info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+		tracked.forEach((pid, started) -> registry.processes.put(pid, started.toEpochMilli()));
+		File file = new File(System.getProperty("user.dir") + File.separator + REGISTRY_DIR, registry.jvmPid + ".json");
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, registry);
+		} catch (IOException e) {
+			logger.warn("⚠️ Could not record session processes. Cause: " + e.getMessage());
+		}
+	}
+
+	private static void deleteRegistry() {
+		new File(System.getProperty("user.dir") + File.separator + REGISTRY_DIR,
+				ProcessHandle.current().pid() + ".json").delete();
+	}
+
+	private static boolean isAlive(long pid, long startedMs) {
+		return ProcessHandle.of(pid).flatMap(process -> process.info().startInstant())
+				.map(started -> started.toEpochMilli() == startedMs).orElse(false);
+	}
+
+	private static boolean hasAncestor(ProcessHandle process, long pid) {
+		if (pid <= 0) {
+			return false;
+		}
+		for (Optional<ProcessHandle> parent = process.parent(); parent.isPresent(); parent = parent.get().parent()) {
+			if (parent.get().pid() == pid) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String abbreviate(String cmdline) {
+		return cmdline.length() > 160 ? cmdline.substring(0, 160) + "..." : cmdline;
+	}
+}
@@ -0,0 +1,195 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Report for very large suites, next to the Spark report: results are
+ * written as they come in, in shards of -DreportShardSize results
+ * (reports/sharded/shards/shard-N.js), plus a small index (totals and a
+ * per-shard summary of statuses, groups and test names) and a static viewer,
+ * reports/sharded/index.html.
+ *
+ * The viewer loads the index, then only the page (shard) being shown, and
+ * skips shards whose summary cannot match the status / group / test filter.
+ * Files are JSONP so the viewer also works when opened from disk. Disable
+ * with -DshardedReport=false.
+ */
+public class ShardedReportUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(ShardedReportUtility.class);
+
+	private static final String REPORT_FOLDER = "reports" + File.separator + "sharded";
+	private static final String VIEWER_RESOURCE = "/report-viewer/index.html";
+	private static final int MAX_ERROR_LENGTH = 2000;
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("shardedReport", "true"));
+	private static final int SHARD_SIZE = Integer.parseInt(System.getProperty("reportShardSize", "500").trim());
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	/** What the index keeps about one shard (all the viewer needs to decide whether to load it). */
+	private record ShardSummary(int id, String file, int count, Map<String, Integer> statuses, Set<String> groups,
+			Set<String> tests) {
+	}
+
+	private static final List<Map<String, Object>> currentShard = new ArrayList<>();
+	private static final List<ShardSummary> shards = new ArrayList<>();
+	private static final Map<String, Integer> totals = new TreeMap<>();
+	private static final Set<String> allGroups = new TreeSet<>();
+	private static final Set<String> allTests = new TreeSet<>();
+	private static long sequence;
+	private static long bytesWritten;
+	private static long writeMs;
+	private static boolean cleaned;
+
+	private ShardedReportUtility() {
+	}
+
+	/**
+	 * Adds one finished test attempt.
+	 *
+	 * @param status   PASS, FAIL or SKIP
+	 * @param artifact screenshot / DOM snapshot path, or null
+	 */
+	public static synchronized void record(String className, String testName, String data, String[] groups,
+			String status, long durationMs, Throwable error, String artifact) {
+		if (!ENABLED) {
+			return;
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("seq", ++sequence);
+		result.put("className", className);
+		result.put("test", testName);
+		result.put("data", data);
+		result.put("groups", groups);
+		result.put("status", status);
+		result.put("durationMs", durationMs);
+		if (error != null) {
+			String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+			result.put("error", message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) + "…"
+					: message);
+		}
+		if (artifact != null) {
+			result.put("artifact", artifact);
+		}
+		currentShard.add(result);
+		if (currentShard.size() >= SHARD_SIZE) {
+			writeShard();
+		}
+	}
+
+	/** Writes the last (partial) shard, the index and the viewer. */
+	public static synchronized void finish() {
+		if (!ENABLED || (sequence == 0 && shards.isEmpty())) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		if (!currentShard.isEmpty()) {
+			writeShard();
+		}
+		Map<String, Object> index = new LinkedHashMap<>();
+		Map<String, Integer> indexTotals = new LinkedHashMap<>();
+		indexTotals.put("total", (int) sequence);
+		indexTotals.putAll(totals);
+		index.put("generated", new SimpleDateFormat("MMM dd, yyyy HH:mm:ss").format(new Date()));
+		index.put("totals", indexTotals);
+		index.put("groups", allGroups);
+		index.put("tests", allTests);
+		index.put("shards", shards);
+		write("index.js", "SentinelReport.index(" + toJson(index) + ");");
+		copyViewer();
+		writeMs += System.currentTimeMillis() - start;
+		logger.info("🗂️ Sharded report: " + sequence + " result(s) in " + shards.size() + " shard(s), "
+				+ bytesWritten / 1024 + " KB written in " + writeMs + " ms → "
+				+ new File(folder(), "index.html").getPath());
+	}
+
+	private static void writeShard() {
+		long start = System.currentTimeMillis();
+		int id = shards.size() + 1;
+		Map<String, Integer> statuses = new TreeMap<>();
+		Set<String> groups = new TreeSet<>();
+		Set<String> tests = new TreeSet<>();
+		for (Map<String, Object> result : currentShard) {
+			statuses.merge((String) result.get("status"), 1, Integer::sum);
+			groups.addAll(List.of((String[]) result.get("groups")));
+			tests.add((String) result.get("test"));
+		}
+		String file = "shards" + File.separator + String.format("shard-%05d.js", id);
+		write(file, "SentinelReport.shard(" + id + ", " + toJson(currentShard) + ");");
+
+		shards.add(new ShardSummary(id, file.replace(File.separatorChar, '/'), currentShard.size(), statuses, groups,
+				tests));
+		statuses.forEach((status, count) -> totals.merge(status, count, Integer::sum));
+		allGroups.addAll(groups);
+		allTests.addAll(tests);
+		currentShard.clear();
+		writeMs += System.currentTimeMillis() - start;
+	}
+
+	private static void write(String relativePath, String content) {
+		File file = new File(folder(), relativePath);
+		try {
+			file.getParentFile().mkdirs();
+			byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+			Files.write(file.toPath(), bytes);
+			bytesWritten += bytes.length;
+		} catch (IOException e) {
+			logger.error("❌ Failed to write report file: " + file.getPath(), e);
+		}
+	}
+
+	private static void copyViewer() {
+		try (InputStream viewer = ShardedReportUtility.class.getResourceAsStream(VIEWER_RESOURCE)) {
+			if (viewer == null) {
+				logger.error("❌ Report viewer not found on the classpath: " + VIEWER_RESOURCE);
+				return;
+			}
+			Files.copy(viewer, new File(folder(), "index.html").toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			logger.error("❌ Failed to copy the report viewer", e);
+		}
+	}
+
+	// Shards of a previous run are removed before the first one of this run is written
+	private static File folder() {
+		File folder = new File(System.getProperty("user.dir") + File.separator + REPORT_FOLDER);
+		if (!cleaned) {
+			cleaned = true;
+			File[] oldShards = new File(folder, "shards").listFiles();
+			if (oldShards != null) {
+				for (File oldShard : oldShards) {
+					oldShard.delete();
+				}
+			}
+		}
+		return folder;
+	}
+
+	private static String toJson(Object value) {
+		try {
+			return mapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("❌ Could not serialize report data", e);
+		}
+	}
+}
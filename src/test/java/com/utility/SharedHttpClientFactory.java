@@ -0,0 +1,88 @@
+package com.utility;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+/**
+ * Hands out ONE keep-alive HTTP client per hub URL for the whole JVM, so every
+ * remote session reuses the same connection pool (no new TCP/TLS handshake per
+ * session). Sessions "closing" their client is a no-op; the real clients are
+ * closed by {@link #shutdown()}.
+ *
+ * Idle-connection keep-alive and pool size of the JDK client are JVM-wide
+ * settings (jdk.httpclient.*), passed by the surefire configuration in the pom.
+ */
+public class SharedHttpClientFactory implements HttpClient.Factory {
+
+	private static final SharedHttpClientFactory INSTANCE = new SharedHttpClientFactory();
+
+	private final HttpClient.Factory delegate = HttpClient.Factory.createDefault();
+	private final Map<String, SharedClient> clients = new ConcurrentHashMap<>();
+
+	private SharedHttpClientFactory() {
+	}
+
+	public static SharedHttpClientFactory getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public HttpClient createClient(ClientConfig config) {
+		return clients.computeIfAbsent(String.valueOf(config.baseUri()),
+				uri -> new SharedClient(delegate.createClient(config)));
+	}
+
+	public void shutdown() {
+		clients.values().forEach(client -> client.delegate.close());
+		clients.clear();
+	}
+
+	private static final class SharedClient implements HttpClient {
+
+		private final HttpClient delegate;
+
+		private SharedClient(HttpClient delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public HttpResponse execute(HttpRequest request) {
+			return delegate.execute(request);
+		}
+
+		@Override
+		public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+			return delegate.executeAsync(request);
+		}
+
+		@Override
+		public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+			return delegate.openSocket(request, listener);
+		}
+
+		@Override
+		public <T> CompletableFuture<java.net.http.HttpResponse<T>> sendAsyncNative(java.net.http.HttpRequest request,
+				java.net.http.HttpResponse.BodyHandler<T> handler) {
+			return delegate.sendAsyncNative(request, handler);
+		}
+
+		@Override
+		public <T> java.net.http.HttpResponse<T> sendNative(java.net.http.HttpRequest request,
+				java.net.http.HttpResponse.BodyHandler<T> handler) throws IOException, InterruptedException {
+			return delegate.sendNative(request, handler);
+		}
+
+		@Override
+		public void close() {
+			// shared: kept open for the next session
+		}
+	}
+}
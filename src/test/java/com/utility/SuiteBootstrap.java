@@ -0,0 +1,218 @@
+package com.utility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.Logger;
+
+import com.constants.Browser;
+import com.ui.pojo.User;
+
+/**
+ * Suite start-up work done concurrently instead of lazily on the first test
+ * thread (opt-in: -Dbootstrap=true): config parse, report setup, history, test-data
+ * files, environment preflight, orphan process reaping, driver service /
+ * binary resolution and Selenium class loading all start as soon as the
+ * suite does.
+ *
+ * Each task is a future; consumers {@link #await} only the one they need
+ * (e.g. TestBase waits for "preflight", onTestStart for "report"). The
+ * breakdown of time-to-first-test is logged when the first test starts.
+ */
+public class SuiteBootstrap {
+
+	private static final Logger logger = LoggerUtility.getLogger(SuiteBootstrap.class);
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("bootstrap", "false"));
+
+	private static final class Task {
+		private final CompletableFuture<Void> future;
+		private volatile long start;
+		private volatile long end;
+		private final AtomicLong blockedMs = new AtomicLong(); // consumers waiting for it
+
+		private Task(CompletableFuture<Void> future) {
+			this.future = future;
+		}
+	}
+
+	private static final Map<String, Task> tasks = Collections.synchronizedMap(new LinkedHashMap<>()); // start order
+	private static final Map<String, CompletableFuture<List<User>>> testData = new ConcurrentHashMap<>();
+	private static final AtomicBoolean started = new AtomicBoolean();
+	private static final AtomicBoolean firstTestLogged = new AtomicBoolean();
+	private static volatile long suiteStart;
+
+	private static final AtomicInteger threadCounter = new AtomicInteger();
+	private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "bootstrap-" + threadCounter.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private SuiteBootstrap() {
+	}
+
+	/**
+	 * Starts every independent initialization task (first call only).
+	 *
+	 * @return false when bootstrapping is off (the default): callers initialize serially
+	 */
+	public static boolean start(Collection<String> envs, Browser browser, boolean remote) {
+		if (!ENABLED) {
+			return false;
+		}
+		if (!started.compareAndSet(false, true)) {
+			return true;
+		}
+		suiteStart = System.currentTimeMillis();
+		List<String> envList = new ArrayList<>(envs);
+		Task config = submit("config", null, () -> envList.forEach(JsonConfigUtility::getEnvData));
+		submit("report", null, () -> ExtentReporterUtility.setupSparkReporter("report.html"));
+		submit("history", null, () -> TestHistoryUtility.isFailFast()); // loads history/test-history.json
+		submit("test-data", null, SuiteBootstrap::preloadTestData);
+		submit("preflight", config, () -> EnvironmentCircuitBreaker.preflight(envList));
+		submit("reaper", null, SessionWatchdog::reapOrphans); // browsers / drivers left by crashed runs
+		if (!remote && DriverServiceManager.isEnabled() && !usesBrowserDaemon(browser)) {
+			submit("driver", null, () -> DriverServiceManager.prewarm(browser));
+		}
+		submit("selenium-classes", null, SuiteBootstrap::loadSeleniumClasses);
+		logger.info("🧰 Bootstrap: " + tasks.size() + " task(s) started in parallel " + tasks.keySet());
+		return true;
+	}
+
+	/** Blocks until the named task is done (no-op when it was never started); failures are logged only. */
+	public static void await(String name) {
+		Task task = tasks.get(name);
+		if (task == null || task.future.isDone()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			task.future.join();
+		} catch (RuntimeException e) {
+			// The consumer runs the step itself and reports the real error
+		}
+		task.blockedMs.addAndGet(System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Rows of a test-data file, parsed once (in the bootstrap when it got there
+	 * first); every call gets its own iterator.
+	 */
+	public static Iterator<User> testData(String fileName, Function<String, Iterator<User>> reader) {
+		try {
+			// A consumer asking while the bootstrap parses the same file waits for that parse
+			return testData.computeIfAbsent(fileName,
+					file -> CompletableFuture.supplyAsync(() -> toList(reader.apply(file)), Runnable::run)).join()
+					.iterator();
+		} catch (CompletionException e) {
+			testData.remove(fileName);
+			throw e.getCause() instanceof RuntimeException cause ? cause : e;
+		}
+	}
+
+	/** Logs the time-to-first-test breakdown (first call only). */
+	public static void logTimeToFirstTest(String testName) {
+		if (!ENABLED || !started.get() || !firstTestLogged.compareAndSet(false, true)) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		logger.info("🧰 Time to first test (" + testName + "): " + (now - suiteStart) + " ms after suite start");
+		Map<String, String> breakdown = new LinkedHashMap<>();
+		tasks.forEach((name, task) -> breakdown.put(name, !task.future.isDone() ? "running"
+				: (task.end - task.start) + " ms" + (task.future.isCompletedExceptionally() ? " (failed)" : "")
+						+ (task.blockedMs.get() > 0 ? ", tests blocked " + task.blockedMs.get() + " ms" : "")));
+		breakdown.forEach((name, line) -> logger.info("   → " + name + ": " + line));
+	}
+
+	// ================================================================================
+	// TASKS
+	// ================================================================================
+
+	private static Task submit(String name, Task after, Runnable step) {
+		CompletableFuture<Void> dependency = after == null ? CompletableFuture.completedFuture(null)
+				: after.future.handle((result, error) -> null);
+		Task task = new Task(new CompletableFuture<Void>());
+		tasks.put(name, task);
+		dependency.thenRunAsync(() -> {
+			task.start = System.currentTimeMillis();
+			try {
+				step.run();
+			} catch (RuntimeException e) {
+				logger.warn("⚠️ Bootstrap task '" + name + "' failed. Cause: " + e.getMessage());
+				throw e;
+			} finally {
+				task.end = System.currentTimeMillis();
+				TraceUtility.complete(name, "bootstrap", task.start, task.end, Map.of());
+			}
+		}, executor).whenComplete((result, error) -> {
+			if (error == null) {
+				task.future.complete(null);
+			} else {
+				task.future.completeExceptionally(error);
+			}
+		});
+		return task;
+	}
+
+	// Data-provider files under testData/, parsed once
+	private static void preloadTestData() {
+		File[] files = new File(System.getProperty("user.dir") + File.separator + "testData").listFiles();
+		for (File file : files == null ? new File[0] : files) {
+			String name = file.getName();
+			Function<String, Iterator<User>> reader = name.endsWith(".json") ? JSONReaderUtility::readJSONFile
+					: name.endsWith(".csv") ? CSVReaderUtility::readCSVFile
+							: name.endsWith(".xlsx") ? ExcelReaderUtility::readExcleFile : null;
+			if (reader != null) {
+				try {
+					testData(name, reader);
+				} catch (RuntimeException e) {
+					logger.debug("Test data {} not preloaded: {}", name, e.getMessage());
+				}
+			}
+		}
+	}
+
+	// Chrome sessions come from the running daemon: no local chromedriver to start
+	private static boolean usesBrowserDaemon(Browser browser) {
+		try {
+			return browser == Browser.CHROME && BrowserDaemon.isAvailable();
+		} catch (RuntimeException e) {
+			return false; // -DbrowserDaemon=true without a daemon: the browser launch reports it
+		}
+	}
+
+	private static void loadSeleniumClasses() {
+		for (String className : List.of("org.openqa.selenium.chrome.ChromeDriver",
+				"org.openqa.selenium.firefox.FirefoxDriver", "org.openqa.selenium.remote.RemoteWebDriver",
+				"org.openqa.selenium.support.ui.WebDriverWait", "org.openqa.selenium.support.events.EventFiringDecorator",
+				"org.openqa.selenium.json.Json", "org.openqa.selenium.remote.http.HttpClient")) {
+			try {
+				Class.forName(className);
+			} catch (ClassNotFoundException e) {
+				logger.debug("Class not preloaded: {}", className);
+			}
+		}
+	}
+
+	private static List<User> toList(Iterator<User> rows) {
+		List<User> list = new ArrayList<>();
+		rows.forEachRemaining(list::add);
+		return List.copyOf(list);
+	}
+}
@@ -0,0 +1,219 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.Logger;
+
+import com.api.TestDataSeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ui.pojo.TestHistory;
+import com.ui.pojo.User;
+
+/**
+ * Persisted duration / failure history per (test method, data row).
+ * Written by TestListener after every result and read back by
+ * HistoryMethodInterceptor and the data providers to order the work.
+ */
+public class TestHistoryUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(TestHistoryUtility.class);
+
+	private static final String HISTORY_FOLDER = "history";
+	private static final String HISTORY_FILE = "test-history.json";
+
+	// Weight of the newest run in the moving averages (0..1)
+	private static final double SMOOTHING = 0.3;
+
+	private static final Pattern LEGACY_SEEDED_KEY = Pattern.compile("User\\[sentinel_[a-z]+_(?!seeded_)[0-9a-z]+_\\d+\\]");
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+	private static final Map<String, TestHistory> history = load();
+
+	private TestHistoryUtility() {
+	}
+
+	/**
+	 * "Fail fast" mode: historically failing tests are scheduled before the slow
+	 * ones. Controlled by -DfailFast=true (see pom.xml).
+	 */
+	public static boolean isFailFast() {
+		return Boolean.parseBoolean(System.getProperty("failFast", "false"));
+	}
+
+	// ================================================================================
+	// KEYS
+	// ================================================================================
+
+	/**
+	 * Key used for one data row, e.g.
+	 * "com.ui.test.LoginTest.loginJsonTest|[User[demo_user]]". Users are keyed
+	 * by name only: passwords never reach the history file or metric keys.
+	 * API-seeded users are keyed by env and slot, not by their per-run name.
+	 */
+	public static String buildKey(String qualifiedMethodName, Object[] params) {
+		if (params == null || params.length == 0) {
+			return qualifiedMethodName;
+		}
+		return qualifiedMethodName + "|" + describe(params);
+	}
+
+	private static String describe(Object param) {
+		if (param instanceof User user) {
+			return "User[" + TestDataSeeder.stableName(user.getUserName()) + "]";
+		}
+		if (param instanceof Object[] array) {
+			return Arrays.stream(array).map(TestHistoryUtility::describe).collect(Collectors.joining(", ", "[", "]"));
+		}
+		return String.valueOf(param);
+	}
+
+	// ================================================================================
+	// WRITE SIDE (TestListener)
+	// ================================================================================
+
+	public static void record(String key, long durationMs, boolean failed) {
+		history.compute(key, (k, entry) -> {
+			if (entry == null) {
+				entry = new TestHistory();
+				entry.setAverageDurationMs(durationMs);
+				entry.setFailureRate(failed ? 1 : 0);
+			} else {
+				entry.setAverageDurationMs(ewma(entry.getAverageDurationMs(), durationMs));
+				entry.setFailureRate(ewma(entry.getFailureRate(), failed ? 1 : 0));
+			}
+			entry.setRuns(entry.getRuns() + 1);
+			if (failed) {
+				entry.setFailures(entry.getFailures() + 1);
+			}
+			entry.setLastDurationMs(durationMs);
+			entry.setLastStatus(failed ? "FAIL" : "PASS");
+			entry.setLastRun(System.currentTimeMillis());
+			return entry;
+		});
+	}
+
+	public static synchronized void save() {
+		File file = historyFile();
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, history);
+			logger.info("🗂️  Test history saved (" + history.size() + " entries) → " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to write test history: " + file.getPath(), e);
+		}
+	}
+
+	// ================================================================================
+	// READ SIDE (HistoryMethodInterceptor, LoginDataProvider)
+	// ================================================================================
+
+	public static TestHistory get(String key) {
+		return history.get(key);
+	}
+
+	/**
+	 * Expected time one worker thread spends on a test method: the sum of the
+	 * average durations of all its known data rows. Returns -1 if unknown.
+	 */
+	public static double estimatedMethodDuration(String qualifiedMethodName) {
+		double total = 0;
+		boolean known = false;
+		for (Map.Entry<String, TestHistory> entry : history.entrySet()) {
+			if (belongsTo(entry.getKey(), qualifiedMethodName)) {
+				total += entry.getValue().getAverageDurationMs();
+				known = true;
+			}
+		}
+		return known ? total : -1;
+	}
+
+	/**
+	 * Highest recent failure rate among the rows of a test method (0..1).
+	 */
+	public static double methodFailureRate(String qualifiedMethodName) {
+		double worst = 0;
+		for (Map.Entry<String, TestHistory> entry : history.entrySet()) {
+			if (belongsTo(entry.getKey(), qualifiedMethodName)) {
+				worst = Math.max(worst, entry.getValue().getFailureRate());
+			}
+		}
+		return worst;
+	}
+
+	/**
+	 * Re-orders data-provider rows: longest first, or likely-to-fail first when
+	 * fail fast is enabled. Rows with no history keep their place at the front.
+	 */
+	public static <T> Iterator<T> orderByHistory(String qualifiedMethodName, Iterator<T> rows) {
+		List<T> list = new ArrayList<>();
+		rows.forEachRemaining(list::add);
+
+		Comparator<T> byDuration = Comparator
+				.comparingDouble(row -> -rowDuration(qualifiedMethodName, row));
+		Comparator<T> order = isFailFast()
+				? Comparator.<T>comparingDouble(row -> -rowFailureRate(qualifiedMethodName, row)).thenComparing(byDuration)
+				: byDuration;
+		list.sort(order); // stable: unknown rows keep declaration order
+
+		logger.info("📊 Ordered " + list.size() + " data rows of " + qualifiedMethodName + " by history"
+				+ (isFailFast() ? " (fail fast)" : " (longest first)"));
+		return list.iterator();
+	}
+
+	// ================================================================================
+	// HELPERS
+	// ================================================================================
+
+	private static double rowDuration(String qualifiedMethodName, Object row) {
+		TestHistory entry = history.get(buildKey(qualifiedMethodName, new Object[] { row }));
+		return entry == null ? Double.MAX_VALUE : entry.getAverageDurationMs();
+	}
+
+	private static double rowFailureRate(String qualifiedMethodName, Object row) {
+		TestHistory entry = history.get(buildKey(qualifiedMethodName, new Object[] { row }));
+		return entry == null ? 0 : entry.getFailureRate();
+	}
+
+	private static boolean belongsTo(String key, String qualifiedMethodName) {
+		return key.equals(qualifiedMethodName) || key.startsWith(qualifiedMethodName + "|");
+	}
+
+	private static double ewma(double previous, double latest) {
+		return SMOOTHING * latest + (1 - SMOOTHING) * previous;
+	}
+
+	private static File historyFile() {
+		return new File(System.getProperty("user.dir") + File.separator + HISTORY_FOLDER + File.separator
+				+ HISTORY_FILE);
+	}
+
+	private static Map<String, TestHistory> load() {
+		File file = historyFile();
+		Map<String, TestHistory> loaded = new ConcurrentHashMap<>();
+		if (file.exists()) {
+			try {
+				Map<String, TestHistory> saved = mapper.readValue(file, new TypeReference<Map<String, TestHistory>>() {
+				});
+				// Older files keyed rows by User.toString(), password included: drop those entries
+				saved.keySet().removeIf(key -> key.contains("password="));
+				// ...and API-seeded users by their per-run name (never seen again): keyed by slot now
+				saved.keySet().removeIf(key -> LEGACY_SEEDED_KEY.matcher(key).find());
+				loaded.putAll(saved);
+			} catch (IOException e) {
+				logger.warn("⚠️ Could not read test history, starting fresh. Cause: " + e.getMessage());
+			}
+		}
+		return loaded;
+	}
+}
@@ -0,0 +1,358 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.logging.log4j.Logger;
+
+import com.constants.Browser;
+import com.constants.Env;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ui.annotations.TestMatrix;
+import com.ui.pojo.Environment;
+
+/**
+ * Expands a {@code @TestMatrix} test into (Browser, Env, data row) rows:
+ * the full cartesian product, or a t-wise covering set built greedily (each
+ * new row is the candidate covering the most still-uncovered value
+ * combinations, AETG style). Must-include rows are placed first.
+ *
+ * The chosen rows and the combinations left out are written to
+ * reports/matrix/&lt;Class.method&gt;.json.
+ */
+public class TestMatrixUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(TestMatrixUtility.class);
+
+	private static final String MATRIX_FOLDER = "reports" + File.separator + "matrix";
+	private static final int CANDIDATES = 30;
+	private static final int MAX_SKIPPED_LISTED = 1000;
+	private static final int FREE = -1;
+
+	private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private TestMatrixUtility() {
+	}
+
+	/** Data-provider rows for a {@code @TestMatrix} method, one {Browser, Env, data} array per row. */
+	public static Iterator<Object[]> expand(Method method, Iterator<?> dataRows) {
+		TestMatrix matrix = method.getAnnotation(TestMatrix.class);
+		if (matrix == null) {
+			throw new RuntimeException("❌ " + method.getName() + " has no @TestMatrix");
+		}
+		List<Browser> browsers = matrix.browsers().length == 0
+				? List.of(Browser.valueOf(System.getProperty("browser", "chrome").trim().toUpperCase()))
+				: Arrays.stream(matrix.browsers()).map(name -> Browser.valueOf(name.trim().toUpperCase())).toList();
+		List<Env> envs = matrix.envs().length == 0
+				? List.of(Env.valueOf(System.getProperty("ENV", "DEV").trim().toUpperCase()))
+				: Arrays.stream(matrix.envs()).map(name -> Env.valueOf(name.trim().toUpperCase())).toList();
+		envs = configuredEnvs(method.getName(), envs);
+		List<Object> data = new ArrayList<>();
+		dataRows.forEachRemaining(data::add);
+		if (data.isEmpty()) {
+			throw new RuntimeException("❌ No data rows for matrix test " + method.getName());
+		}
+
+		int[] sizes = { browsers.size(), envs.size(), data.size() };
+		String strengthOverride = System.getProperty("matrixStrength", "").trim();
+		int strength = strengthOverride.isEmpty() ? matrix.strength() : Integer.parseInt(strengthOverride);
+		List<int[]> mustInclude = new ArrayList<>();
+		for (String spec : matrix.mustInclude()) {
+			String[] parts = spec.split(",");
+			if (parts.length == 3 && !wildcard(parts[1]) && !envs.contains(Env.valueOf(parts[1].trim().toUpperCase()))) {
+				logger.warn("⚠️ mustInclude row " + spec + " dropped: its environment has no url in config.json");
+				continue;
+			}
+			mustInclude.add(parseRow(spec, browsers, envs, data.size()));
+		}
+
+		long start = System.currentTimeMillis();
+		List<int[]> rows = strength <= 0 || strength >= sizes.length ? cartesian(sizes)
+				: cover(sizes, strength, mustInclude);
+		String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		report(name, strength, browsers, envs, sizes, rows);
+		logger.info("🧮 Matrix for " + name + ": " + rows.size() + " of " + product(sizes) + " combinations ("
+				+ (strength <= 0 || strength >= sizes.length ? "full product" : strength + "-wise") + ", built in "
+				+ (System.currentTimeMillis() - start) + " ms)");
+
+		List<Object[]> expanded = new ArrayList<>();
+		for (int[] row : rows) {
+			expanded.add(new Object[] { browsers.get(row[0]), envs.get(row[1]), data.get(row[2]) });
+		}
+		return expanded.iterator();
+	}
+
+	// ================================================================================
+	// COVERING ARRAY
+	// ================================================================================
+
+	private static List<int[]> cover(int[] sizes, int strength, List<int[]> mustInclude) {
+		Map<String, int[]> uncovered = new LinkedHashMap<>();
+		for (int[] tuple : allTuples(sizes, strength)) {
+			uncovered.put(Arrays.toString(tuple), tuple);
+		}
+		Random random = new Random(42); // same rows on every run
+		List<int[]> rows = new ArrayList<>();
+		for (int[] partial : mustInclude) {
+			int[] row = fill(partial, sizes, uncovered, random);
+			rows.add(row);
+			markCovered(row, strength, uncovered);
+		}
+		while (!uncovered.isEmpty()) {
+			List<int[]> open = new ArrayList<>(uncovered.values());
+			int[] best = null;
+			int bestGain = -1;
+			for (int c = 0; c < CANDIDATES; c++) {
+				int[] candidate = fill(open.get(random.nextInt(open.size())), sizes, uncovered, random);
+				int gain = gain(candidate, strength, uncovered);
+				if (gain > bestGain) {
+					best = candidate;
+					bestGain = gain;
+				}
+			}
+			rows.add(best);
+			markCovered(best, strength, uncovered);
+		}
+		return rows;
+	}
+
+	// Assigns the free dimensions one by one (random order), each to its most covering value
+	private static int[] fill(int[] partial, int[] sizes, Map<String, int[]> uncovered, Random random) {
+		int[] row = partial.clone();
+		List<Integer> free = new ArrayList<>();
+		for (int dimension = 0; dimension < row.length; dimension++) {
+			if (row[dimension] == FREE) {
+				free.add(dimension);
+			}
+		}
+		Collections.shuffle(free, random);
+		for (int dimension : free) {
+			int bestValue = random.nextInt(sizes[dimension]);
+			int bestGain = -1;
+			for (int value = 0; value < sizes[dimension]; value++) {
+				row[dimension] = value;
+				int gain = 0;
+				for (int[] tuple : uncovered.values()) {
+					if (tuple[dimension] == value && consistent(tuple, row)) {
+						gain++;
+					}
+				}
+				if (gain > bestGain) {
+					bestGain = gain;
+					bestValue = value;
+				}
+			}
+			row[dimension] = bestValue;
+		}
+		return row;
+	}
+
+	// Every dimension the tuple fixes is either still free in the row or has the same value
+	private static boolean consistent(int[] tuple, int[] row) {
+		for (int dimension = 0; dimension < tuple.length; dimension++) {
+			if (tuple[dimension] != FREE && row[dimension] != FREE && tuple[dimension] != row[dimension]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int gain(int[] row, int strength, Map<String, int[]> uncovered) {
+		int gain = 0;
+		for (int[] tuple : tuplesOf(row, strength)) {
+			if (uncovered.containsKey(Arrays.toString(tuple))) {
+				gain++;
+			}
+		}
+		return gain;
+	}
+
+	private static void markCovered(int[] row, int strength, Map<String, int[]> uncovered) {
+		for (int[] tuple : tuplesOf(row, strength)) {
+			uncovered.remove(Arrays.toString(tuple));
+		}
+	}
+
+	// The t-way value combinations one complete row covers
+	private static List<int[]> tuplesOf(int[] row, int strength) {
+		List<int[]> tuples = new ArrayList<>();
+		for (int[] dimensions : dimensionSets(row.length, strength)) {
+			int[] tuple = new int[row.length];
+			Arrays.fill(tuple, FREE);
+			for (int dimension : dimensions) {
+				tuple[dimension] = row[dimension];
+			}
+			tuples.add(tuple);
+		}
+		return tuples;
+	}
+
+	private static List<int[]> allTuples(int[] sizes, int strength) {
+		List<int[]> tuples = new ArrayList<>();
+		for (int[] dimensions : dimensionSets(sizes.length, strength)) {
+			int[] subSizes = new int[dimensions.length];
+			for (int i = 0; i < dimensions.length; i++) {
+				subSizes[i] = sizes[dimensions[i]];
+			}
+			for (int[] values : cartesian(subSizes)) {
+				int[] tuple = new int[sizes.length];
+				Arrays.fill(tuple, FREE);
+				for (int i = 0; i < dimensions.length; i++) {
+					tuple[dimensions[i]] = values[i];
+				}
+				tuples.add(tuple);
+			}
+		}
+		return tuples;
+	}
+
+	// All sorted k-subsets of {0..n-1}
+	private static List<int[]> dimensionSets(int n, int k) {
+		List<int[]> sets = new ArrayList<>();
+		int[] current = new int[k];
+		for (int i = 0; i < k; i++) {
+			current[i] = i;
+		}
+		while (true) {
+			sets.add(current.clone());
+			int i = k - 1;
+			while (i >= 0 && current[i] == n - k + i) {
+				i--;
+			}
+			if (i < 0) {
+				return sets;
+			}
+			current[i]++;
+			for (int j = i + 1; j < k; j++) {
+				current[j] = current[j - 1] + 1;
+			}
+		}
+	}
+
+	private static List<int[]> cartesian(int[] sizes) {
+		List<int[]> rows = new ArrayList<>();
+		int[] row = new int[sizes.length];
+		long total = product(sizes);
+		for (long n = 0; n < total; n++) {
+			rows.add(row.clone());
+			for (int dimension = sizes.length - 1; dimension >= 0; dimension--) {
+				if (++row[dimension] < sizes[dimension]) {
+					break;
+				}
+				row[dimension] = 0;
+			}
+		}
+		return rows;
+	}
+
+	private static long product(int[] sizes) {
+		long product = 1;
+		for (int size : sizes) {
+			product *= size;
+		}
+		return product;
+	}
+
+	/** Environments without a url in config.json cannot be navigated to: leave them out of the matrix. */
+	private static List<Env> configuredEnvs(String methodName, List<Env> envs) {
+		List<Env> configured = new ArrayList<>();
+		for (Env env : envs) {
+			Environment environment = JsonConfigUtility.getEnvData(env.name());
+			if (environment != null && environment.getUrl() != null && !environment.getUrl().isBlank()) {
+				configured.add(env);
+			} else {
+				logger.warn("⚠️ " + methodName + ": environment " + env + " has no url in config.json, skipped");
+			}
+		}
+		if (configured.isEmpty()) {
+			throw new RuntimeException("❌ None of the environments of matrix test " + methodName
+					+ " has a url in config.json: " + envs);
+		}
+		return configured;
+	}
+
+	// ================================================================================
+	// MUST-INCLUDE ROWS & REPORT
+	// ================================================================================
+
+	private static int[] parseRow(String spec, List<Browser> browsers, List<Env> envs, int dataSize) {
+		String[] parts = spec.split(",");
+		if (parts.length != 3) {
+			throw new RuntimeException("❌ mustInclude row must be 'browser,env,data': " + spec);
+		}
+		int[] row = { FREE, FREE, FREE };
+		if (!wildcard(parts[0])) {
+			row[0] = browsers.indexOf(Browser.valueOf(parts[0].trim().toUpperCase()));
+		}
+		if (!wildcard(parts[1])) {
+			row[1] = envs.indexOf(Env.valueOf(parts[1].trim().toUpperCase()));
+		}
+		if (!wildcard(parts[2])) {
+			row[2] = Integer.parseInt(parts[2].trim()) - 1;
+		}
+		for (int dimension = 0; dimension < row.length; dimension++) {
+			boolean outside = row[dimension] < 0 || (dimension == 2 && row[dimension] >= dataSize);
+			if (!wildcard(parts[dimension]) && outside) {
+				throw new RuntimeException("❌ mustInclude row is outside the matrix dimensions: " + spec);
+			}
+		}
+		return row;
+	}
+
+	private static boolean wildcard(String part) {
+		return part.trim().equals("*");
+	}
+
+	private static void report(String name, int strength, List<Browser> browsers, List<Env> envs, int[] sizes,
+			List<int[]> rows) {
+		Set<String> chosen = new LinkedHashSet<>();
+		rows.forEach(row -> chosen.add(label(row, browsers, envs)));
+		List<String> skipped = new ArrayList<>();
+		int skippedCount = 0;
+		for (int[] row : cartesian(sizes)) {
+			String label = label(row, browsers, envs);
+			if (!chosen.contains(label)) {
+				skippedCount++;
+				if (skipped.size() < MAX_SKIPPED_LISTED) {
+					skipped.add(label);
+				}
+			}
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("test", name);
+		report.put("strength", strength <= 0 || strength >= sizes.length ? "full" : strength);
+		report.put("browsers", browsers);
+		report.put("envs", envs);
+		report.put("dataRows", sizes[2]);
+		report.put("fullProduct", product(sizes));
+		report.put("generated", chosen.size());
+		report.put("rows", chosen);
+		report.put("skippedCount", skippedCount);
+		report.put("skipped", skipped);
+		File file = new File(System.getProperty("user.dir") + File.separator + MATRIX_FOLDER, name + ".json");
+		try {
+			file.getParentFile().mkdirs();
+			mapper.writeValue(file, report);
+			logger.info("🧮 " + skippedCount + " combination(s) skipped, listed in " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to write matrix report: " + file.getPath(), e);
+		}
+	}
+
+	private static String label(int[] row, List<Browser> browsers, List<Env> envs) {
+		return browsers.get(row[0]) + " | " + envs.get(row[1]) + " | row " + (row[2] + 1);
+	}
+}
@@ -0,0 +1,68 @@
+package com.utility;
+
+import java.io.IOException;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * Wraps the HTTP executor of a remote session and measures session creation
+ * (NEW_SESSION) separately from the round trip time of every other command.
+ */
+public class TimedCommandExecutor implements CommandExecutor {
+
+	private final CommandExecutor delegate;
+
+	private long sessionCreationMs = -1;
+	private long commandCount;
+	private long totalCommandNanos;
+	private long maxCommandNanos;
+
+	public TimedCommandExecutor(CommandExecutor delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Response execute(Command command) throws IOException {
+		long start = System.nanoTime();
+		try {
+			return delegate.execute(command);
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+				sessionCreationMs = elapsed / 1_000_000;
+			} else {
+				synchronized (this) {
+					commandCount++;
+					totalCommandNanos += elapsed;
+					maxCommandNanos = Math.max(maxCommandNanos, elapsed);
+				}
+			}
+		}
+	}
+
+	public long getSessionCreationMs() {
+		return sessionCreationMs;
+	}
+
+	public synchronized long getCommandCount() {
+		return commandCount;
+	}
+
+	public synchronized double getAverageRttMs() {
+		return commandCount == 0 ? 0 : totalCommandNanos / (commandCount * 1_000_000.0);
+	}
+
+	public synchronized double getMaxRttMs() {
+		return maxCommandNanos / 1_000_000.0;
+	}
+
+	/** Starts a new measurement window (used when a pooled session is reused). */
+	public synchronized void resetCommandStats() {
+		commandCount = 0;
+		totalCommandNanos = 0;
+		maxCommandNanos = 0;
+	}
+}
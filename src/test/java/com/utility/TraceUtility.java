@@ -0,0 +1,229 @@
+package com.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Spans around framework operations (setup, launch, navigation, waits,
+ * clicks, screenshots, quit), exported as Chrome Trace Event JSON to
+ * reports/trace/trace.json. Open it in https://ui.perfetto.dev or
+ * chrome://tracing: one track per test thread, spans nested by time.
+ *
+ * <pre>
+ * TraceUtility.span("click", "action").arg("locator", locator).run(() -> ...);
+ * </pre>
+ *
+ * Recording is one small object per span in a lock-free queue; the JSON is
+ * only produced by {@link #export()}. Opt-in with -Dtrace=true; at most
+ * -DtraceMaxEvents events are kept.
+ */
+public class TraceUtility {
+
+	private static final Logger logger = LoggerUtility.getLogger(TraceUtility.class);
+
+	private static final String TRACE_FILE = "reports" + File.separator + "trace" + File.separator + "trace.json";
+
+	private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("trace", "false"));
+	private static final int MAX_EVENTS = Integer.parseInt(System.getProperty("traceMaxEvents", "200000").trim());
+
+	// Trace timestamps are epoch microseconds (nanoTime-based for precision, anchored once)
+	private static final long BASE_NANOS = System.nanoTime();
+	private static final long BASE_EPOCH_MS = System.currentTimeMillis();
+
+	private record TraceEvent(String name, String category, long tsMicros, long durMicros, long tid,
+			Map<String, Object> args) {
+	}
+
+	private static final Queue<TraceEvent> events = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger eventCount = new AtomicInteger();
+	private static final AtomicLong droppedEvents = new AtomicLong();
+	private static final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+	private static final ThreadLocal<Span> testSpan = new ThreadLocal<>();
+
+	private static final Span NOOP = new Span(null, null);
+
+	private TraceUtility() {
+	}
+
+	/**
+	 * Starts a span on the current thread. Wrap the traced code with
+	 * {@link Span#run} / {@link Span#call}, or close the span (try-with-resources)
+	 * when the body needs it, e.g. to add args.
+	 */
+	public static Span span(String name, String category) {
+		return ENABLED ? new Span(name, category) : NOOP;
+	}
+
+	/** Opens the span covering a whole test (setup → body → teardown) on this thread. */
+	public static void beginTest(String testName) {
+		endTest();
+		testSpan.set(span(testName, "test"));
+	}
+
+	public static void endTest() {
+		Span span = testSpan.get();
+		testSpan.remove();
+		if (span != null) {
+			span.close();
+		}
+	}
+
+	/** Records a span that already happened, from epoch-millisecond timestamps (e.g. TestNG results). */
+	public static void complete(String name, String category, long startEpochMs, long endEpochMs,
+			Map<String, Object> args) {
+		if (ENABLED) {
+			add(new TraceEvent(name, category, startEpochMs * 1000,
+					Math.max(0, endEpochMs - startEpochMs) * 1000, currentThreadId(), args));
+		}
+	}
+
+	/** Writes every recorded span to reports/trace/trace.json. */
+	public static synchronized void export() {
+		if (!ENABLED || events.isEmpty()) {
+			return;
+		}
+		File file = new File(System.getProperty("user.dir") + File.separator + TRACE_FILE);
+		file.getParentFile().mkdirs();
+		try (JsonGenerator json = new ObjectMapper().getFactory().createGenerator(file, JsonEncoding.UTF8)) {
+			json.writeStartObject();
+			json.writeStringField("displayTimeUnit", "ms");
+			json.writeArrayFieldStart("traceEvents");
+
+			json.writeStartObject();
+			json.writeStringField("name", "process_name");
+			json.writeStringField("ph", "M");
+			json.writeNumberField("pid", 1);
+			json.writeObjectFieldStart("args");
+			json.writeStringField("name", "sentinel-qa");
+			json.writeEndObject();
+			json.writeEndObject();
+			for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+				json.writeStartObject();
+				json.writeStringField("name", "thread_name");
+				json.writeStringField("ph", "M");
+				json.writeNumberField("pid", 1);
+				json.writeNumberField("tid", thread.getKey());
+				json.writeObjectFieldStart("args");
+				json.writeStringField("name", thread.getValue());
+				json.writeEndObject();
+				json.writeEndObject();
+			}
+
+			for (TraceEvent event : events) {
+				json.writeStartObject();
+				json.writeStringField("name", event.name());
+				json.writeStringField("cat", event.category());
+				json.writeStringField("ph", "X");
+				json.writeNumberField("ts", event.tsMicros());
+				json.writeNumberField("dur", event.durMicros());
+				json.writeNumberField("pid", 1);
+				json.writeNumberField("tid", event.tid());
+				if (event.args() != null) {
+					json.writeObjectField("args", event.args());
+				}
+				json.writeEndObject();
+			}
+			json.writeEndArray();
+			json.writeEndObject();
+			logger.info("🧵 Trace exported (" + events.size() + " spans"
+					+ (droppedEvents.get() > 0 ? ", " + droppedEvents.get() + " dropped" : "") + ") → " + file.getPath());
+		} catch (IOException e) {
+			logger.error("❌ Failed to export trace: " + file.getPath(), e);
+		}
+	}
+
+	private static void add(TraceEvent event) {
+		if (eventCount.incrementAndGet() > MAX_EVENTS) {
+			droppedEvents.incrementAndGet();
+			return;
+		}
+		events.add(event);
+	}
+
+	private static long currentThreadId() {
+		Thread thread = Thread.currentThread();
+		long tid = thread.threadId();
+		threadNames.putIfAbsent(tid, thread.getName());
+		return tid;
+	}
+
+	/** Traced code for {@link Span#call}; may throw a checked exception. */
+	@FunctionalInterface
+	public interface Body<T, E extends Exception> {
+		T get() throws E;
+	}
+
+	/** Traced code without a result for {@link Span#run}. */
+	@FunctionalInterface
+	public interface Action<E extends Exception> {
+		void run() throws E;
+	}
+
+	/** An open span; {@link #close()} records it. */
+	public static final class Span implements AutoCloseable {
+		private final String name;
+		private final String category;
+		private final long startNanos;
+		private Map<String, Object> args;
+		private boolean closed;
+
+		private Span(String name, String category) {
+			this.name = name;
+			this.category = category;
+			this.startNanos = System.nanoTime();
+		}
+
+		/** Adds a key/value shown in the span's details (values are stored as text or numbers). */
+		public Span arg(String key, Object value) {
+			if (name != null) {
+				if (args == null) {
+					args = new LinkedHashMap<>();
+				}
+				args.put(key, value instanceof Number || value instanceof Boolean ? value : String.valueOf(value));
+			}
+			return this;
+		}
+
+		/** Runs the action inside this span, then records it. */
+		public <E extends Exception> void run(Action<E> action) throws E {
+			try {
+				action.run();
+			} finally {
+				close();
+			}
+		}
+
+		/** Returns the body's result, recording this span once it completes. */
+		public <T, E extends Exception> T call(Body<T, E> body) throws E {
+			try {
+				return body.get();
+			} finally {
+				close();
+			}
+		}
+
+		@Override
+		public void close() {
+			if (name == null || closed) {
+				return;
+			}
+			closed = true;
+			long end = System.nanoTime();
+			add(new TraceEvent(name, category, BASE_EPOCH_MS * 1000 + (startNanos - BASE_NANOS) / 1000,
+					(end - startNanos) / 1000, currentThreadId(), args));
+		}
+	}
+}